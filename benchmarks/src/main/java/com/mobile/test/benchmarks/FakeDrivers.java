@@ -0,0 +1,29 @@
+package com.mobile.test.benchmarks;
+
+import com.mobile.test.fake.FakeApp;
+import com.mobile.test.fake.InProcessCommandExecutor;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+/**
+ * Drivers backed by in-process fakes, shared by the benchmarks.
+ */
+final class FakeDrivers {
+    private FakeDrivers() {
+    }
+
+    static DesiredCapabilities capabilities() {
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+        capabilities.setCapability("platformName", "Android");
+        capabilities.setCapability("appium:automationName", "UiAutomator2");
+        return capabilities;
+    }
+
+    static AndroidDriver sessionOnly() {
+        return InProcessCommandExecutor.sessionOnlyDriver(capabilities());
+    }
+
+    static AndroidDriver on(FakeApp app) {
+        return InProcessCommandExecutor.driverFor(app, capabilities());
+    }
+}
@@ -0,0 +1,74 @@
+package com.mobile.test.benchmarks;
+
+import com.mobile.test.pages.PageRegistry;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Element initialization cost of each page class, in isolation.
+ *
+ * <p>{@code pageFactory} builds a new {@link AppiumFieldDecorator} and runs
+ * {@code PageFactory.initElements}, as every page constructor used to. {@code sharedDecorator}
+ * reuses one decorator and the cached field list, as {@link PageRegistry} does. Both include
+ * the page constructor; {@code SettingsPage} still initializes itself there, so its numbers
+ * carry that cost on top.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageFactoryBenchmark {
+    @Param({"LoginPage", "ProductsPage", "CartPage", "CheckoutPage", "SettingsPage"})
+    public String page;
+
+    private AndroidDriver driver;
+    private Constructor<?> constructor;
+    private FieldDecorator sharedDecorator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        driver = FakeDrivers.sessionOnly();
+        constructor = Class.forName("com.mobile.test.pages." + page).getConstructor(AndroidDriver.class);
+        sharedDecorator = new AppiumFieldDecorator(driver, Duration.ofSeconds(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public Object pageFactory() throws ReflectiveOperationException {
+        Object instance = constructor.newInstance(driver);
+        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), instance);
+        return instance;
+    }
+
+    @Benchmark
+    public Object sharedDecorator() throws ReflectiveOperationException {
+        Object instance = constructor.newInstance(driver);
+        PageRegistry.initElements(sharedDecorator, instance);
+        return instance;
+    }
+}
@@ -0,0 +1,110 @@
+package com.mobile.test.benchmarks;
+
+import com.mobile.test.pages.CartPage;
+import com.mobile.test.pages.CheckoutPage;
+import com.mobile.test.pages.LoginPage;
+import com.mobile.test.pages.PageRegistry;
+import com.mobile.test.pages.ProductsPage;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.support.PageFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-test page setup cost: the previous {@code pageInit()} against the page registry.
+ *
+ * <p>{@code legacyPageInit} repeats what one {@code @BeforeMethod} used to do: build the four
+ * pages and run {@code PageFactory.initElements} once in the base constructor, again in the
+ * Login/Cart/Checkout constructors and once more in {@code pageInit()}. {@code registryFirstUse}
+ * is what the registry does the first time a session needs the pages, and
+ * {@code registryPerTest} is the cost paid by every later test on that session.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageInitBenchmark {
+    private AndroidDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = FakeDrivers.sessionOnly();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public void legacyPageInit(Blackhole blackhole) {
+        LoginPage loginPage = new LoginPage(driver);
+        ProductsPage productsPage = new ProductsPage(driver);
+        CartPage cartPage = new CartPage(driver);
+        CheckoutPage checkoutPage = new CheckoutPage(driver);
+
+        // Base class constructors
+        PageFactory.initElements(new AppiumFieldDecorator(driver), loginPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver), productsPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), cartPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), checkoutPage);
+        // Subclass constructors
+        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), loginPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), cartPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), checkoutPage);
+        // pageInit()
+        PageFactory.initElements(new AppiumFieldDecorator(driver), loginPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver), productsPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver), cartPage);
+        PageFactory.initElements(new AppiumFieldDecorator(driver), checkoutPage);
+
+        blackhole.consume(loginPage);
+        blackhole.consume(productsPage);
+        blackhole.consume(cartPage);
+        blackhole.consume(checkoutPage);
+    }
+
+    @Benchmark
+    public void registryFirstUse(Blackhole blackhole) {
+        AppiumFieldDecorator decorator = new AppiumFieldDecorator(driver, Duration.ofSeconds(10));
+        LoginPage loginPage = new LoginPage(driver);
+        ProductsPage productsPage = new ProductsPage(driver);
+        CartPage cartPage = new CartPage(driver);
+        CheckoutPage checkoutPage = new CheckoutPage(driver);
+        PageRegistry.initElements(decorator, loginPage);
+        PageRegistry.initElements(decorator, productsPage);
+        PageRegistry.initElements(decorator, cartPage);
+        PageRegistry.initElements(decorator, checkoutPage);
+
+        blackhole.consume(loginPage);
+        blackhole.consume(productsPage);
+        blackhole.consume(cartPage);
+        blackhole.consume(checkoutPage);
+    }
+
+    @Benchmark
+    public void registryPerTest(Blackhole blackhole) {
+        PageRegistry registry = PageRegistry.of(driver);
+        blackhole.consume(registry.get(LoginPage.class));
+        blackhole.consume(registry.get(ProductsPage.class));
+        blackhole.consume(registry.get(CartPage.class));
+        blackhole.consume(registry.get(CheckoutPage.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.mobile.test.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import com.mobile.test.fake.SwagLabsFakeApp;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.helpers.PageSourceSnapshot;
+import io.appium.java_client.android.AndroidDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The order-complete check of {@code CheckoutPage.isOrderComplete()} against a page source.
+ *
+ * <p>{@code stringScan} is the original check (download, upper-case, {@code contains});
+ * {@code snapshotParse} downloads and indexes the source every time; {@code cachedSnapshot}
+ * goes through {@link PageSourceCache}, which only downloads after the UI may have changed.
+ * The screen is either the short completion screen or the longer products list.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageSourceScanBenchmark {
+    @Param({"complete", "swag-overview"})
+    public String screen;
+
+    private AndroidDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = FakeDrivers.on(new SwagLabsFakeApp());
+        driver.executeScript("mobile: deepLink", ImmutableMap.of("url", "swaglabs://" + screen + "/0,1,2", "package", "com.swaglabsmobileapp"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public boolean stringScan() {
+        String pageSource = driver.getPageSource().toUpperCase(Locale.ROOT);
+        return pageSource.contains("THANK YOU") || pageSource.contains("COMPLETE");
+    }
+
+    @Benchmark
+    public boolean snapshotParse() {
+        return PageSourceSnapshot.parse(driver.getPageSource()).containsAnyText("THANK YOU", "COMPLETE");
+    }
+
+    @Benchmark
+    public boolean cachedSnapshot() {
+        return PageSourceCache.of(driver).get().containsAnyText("THANK YOU", "COMPLETE");
+    }
+}
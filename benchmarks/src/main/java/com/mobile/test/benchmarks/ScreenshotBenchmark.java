@@ -0,0 +1,94 @@
+package com.mobile.test.benchmarks;
+
+import com.mobile.test.fake.SwagLabsFakeApp;
+import com.mobile.test.helpers.ScreenshotPipeline;
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.TestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.OutputType;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a screenshot to the test thread: capture, encode and Allure attachment.
+ *
+ * <p>{@code legacySync} is what {@code BaseTest.takeScreenshot} did before the pipeline: the
+ * PNG is downloaded on the test thread and attached as is. {@code pipelineRequest} is the part
+ * the test thread waits for now; {@code pipelineRoundTrip} adds the flush at the end of the
+ * test, including the JPEG re-encoding. The pipeline reads {@code config.properties}, so run
+ * the jar from the repository root. Screenshot downloads take {@code captureLatencyMillis}.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = "-Dallure.results.directory=target/benchmark-allure-results")
+@State(Scope.Benchmark)
+public class ScreenshotBenchmark {
+    @Param({"0", "150"})
+    public long captureLatencyMillis;
+
+    private AndroidDriver driver;
+    private ScreenshotPipeline pipeline;
+    private String testUuid;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SwagLabsFakeApp app = new SwagLabsFakeApp();
+        app.setLatency("screenshot", Duration.ofMillis(captureLatencyMillis));
+        driver = FakeDrivers.on(app);
+        pipeline = ScreenshotPipeline.getInstance();
+
+        // Attachments are only written while a test case is running
+        testUuid = UUID.randomUUID().toString();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(testUuid).setName("ScreenshotBenchmark"));
+        lifecycle.startTestCase(testUuid);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Allure.getLifecycle().stopTestCase(testUuid);
+        Allure.getLifecycle().writeTestCase(testUuid);
+        pipeline.shutdown();
+        driver.quit();
+    }
+
+    @TearDown(Level.Invocation)
+    public void flushPending() {
+        pipeline.flush();
+    }
+
+    @Benchmark
+    public void legacySync() {
+        byte[] png = driver.getScreenshotAs(OutputType.BYTES);
+        Allure.getLifecycle().addAttachment("Screenshot - legacy", "image/png", ".png", png);
+    }
+
+    @Benchmark
+    public void pipelineRequest() {
+        pipeline.request(driver, "pipeline");
+    }
+
+    @Benchmark
+    public void pipelineRoundTrip() {
+        pipeline.request(driver, "pipeline");
+        pipeline.flush();
+    }
+}
@@ -0,0 +1,117 @@
+package com.mobile.test.benchmarks;
+
+import com.mobile.test.fake.FakeApp;
+import com.mobile.test.helpers.WaitHelper;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.w3c.dom.Element;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from starting a visibility wait until it returns, for an element that appears after
+ * {@code appearAfterMillis}; everything above that delay is wait overhead.
+ *
+ * <p>{@code webDriverWait} is the fixed 500 ms polling the pages used before
+ * {@link WaitHelper}; {@code waitHelper} is the adaptive poll. Each lookup costs
+ * {@code commandLatencyMillis}, a stand-in for the Appium round trip.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WaitBenchmark {
+    private static final By TARGET = AppiumBy.accessibilityId("test-Target");
+
+    @Param({"0", "120", "700"})
+    public long appearAfterMillis;
+
+    @Param({"5"})
+    public long commandLatencyMillis;
+
+    private DelayedScreen app;
+    private AndroidDriver driver;
+    private ScheduledExecutorService scheduler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        app = new DelayedScreen();
+        app.setLatency(Duration.ofMillis(commandLatencyMillis));
+        driver = FakeDrivers.on(app);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @Setup(Level.Invocation)
+    public void hideTarget() {
+        app.setVisible(false);
+        if (appearAfterMillis == 0) {
+            app.setVisible(true);
+        } else {
+            scheduler.schedule(() -> app.setVisible(true), appearAfterMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdownNow();
+        driver.quit();
+    }
+
+    @Benchmark
+    public WebElement webDriverWait() {
+        return new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.visibilityOfElementLocated(TARGET));
+    }
+
+    @Benchmark
+    public WebElement waitHelper() {
+        return new WaitHelper(driver, 10).waitForElementToBeVisible(TARGET);
+    }
+
+    /**
+     * One screen whose only button is shown or hidden from the benchmark.
+     */
+    static final class DelayedScreen extends FakeApp {
+        private boolean visible;
+
+        synchronized void setVisible(boolean visible) {
+            if (this.visible != visible) {
+                this.visible = visible;
+                changed();
+            }
+        }
+
+        @Override
+        protected synchronized String render() {
+            return "<hierarchy><android.widget.FrameLayout class=\"android.widget.FrameLayout\" bounds=\"[0,0][1080,2400]\">"
+                    + (visible ? "<android.view.ViewGroup class=\"android.view.ViewGroup\" content-desc=\"test-Target\""
+                            + " displayed=\"true\" bounds=\"[60,900][1020,1010]\" />" : "")
+                    + "</android.widget.FrameLayout></hierarchy>";
+        }
+
+        @Override
+        protected void onClick(Element element) {
+        }
+    }
+}
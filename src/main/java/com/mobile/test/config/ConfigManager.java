@@ -1,7 +1,10 @@
 package com.mobile.test.config;
 
+import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Properties;
 
 public class ConfigManager {
@@ -10,13 +13,28 @@ public class ConfigManager {
     private static ConfigManager instance;
 
     private ConfigManager() {
-        try (FileInputStream fis = new FileInputStream(CONFIG_FILE)) {
-            properties.load(fis);
+        try (InputStream in = open()) {
+            properties.load(in);
         } catch (IOException e) {
             throw new RuntimeException("Failed to load config file: " + CONFIG_FILE, e);
         }
     }
 
+    /**
+     * The project's config file, or the copy packaged on the classpath when the working
+     * directory is not the project root (e.g. the benchmarks run from {@code benchmarks/}).
+     */
+    private static InputStream open() throws IOException {
+        if (new File(CONFIG_FILE).isFile()) {
+            return new FileInputStream(CONFIG_FILE);
+        }
+        InputStream packaged = ConfigManager.class.getClassLoader().getResourceAsStream("config.properties");
+        if (packaged == null) {
+            throw new FileNotFoundException(CONFIG_FILE + " (not on the classpath either)");
+        }
+        return packaged;
+    }
+
     public static synchronized ConfigManager getInstance() {
         if (instance == null) {
             instance = new ConfigManager();
@@ -25,7 +43,24 @@ public class ConfigManager {
     }
 
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : value.trim();
+    }
+
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for '" + key + "': " + value, e);
+        }
     }
 
     public String getAppiumServerUrl() {
@@ -43,4 +78,12 @@ public class ConfigManager {
     public String getDeviceName() {
         return getProperty("device.name");
     }
+
+    public String getAppPackage() {
+        return getProperty("app.package", "com.swaglabsmobileapp");
+    }
+
+    public String getAppActivity() {
+        return getProperty("app.activity", "com.swaglabsmobileapp.MainActivity");
+    }
 }
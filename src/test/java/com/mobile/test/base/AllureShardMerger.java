@@ -0,0 +1,94 @@
+package com.mobile.test.base;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * İşçi JVM'lerinin Allure sonuçlarını tek dizinde birleştirir
+ * Merges the Allure results shards of the forked worker JVMs into one results directory
+ *
+ * <p>Result, container and attachment files are named by UUID, so they are copied as they
+ * are. Each shard's {@code environment.properties} becomes a {@code worker-N.device} entry of
+ * the merged one, so the report shows which device ran which worker. Any other file that
+ * exists in several shards (categories, executor) keeps its first copy.</p>
+ *
+ * <p>Run by the {@code forked} Maven profile after the tests:
+ * {@code AllureShardMerger <shards dir> <results dir>}.</p>
+ */
+public final class AllureShardMerger {
+    private static final String ENVIRONMENT = "environment.properties";
+
+    private AllureShardMerger() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: AllureShardMerger <shards dir> <results dir>");
+        }
+        merge(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+    public static void merge(Path shardsDir, Path resultsDir) throws IOException {
+        if (!Files.isDirectory(shardsDir)) {
+            System.err.println("⚠️ Birleştirilecek sonuç yok / No result shards under " + shardsDir);
+            return;
+        }
+        Files.createDirectories(resultsDir);
+
+        List<Path> shards = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(shardsDir, Files::isDirectory)) {
+            stream.forEach(shards::add);
+        }
+        shards.sort(null);
+
+        TreeMap<String, String> environment = new TreeMap<>();
+        int copied = 0;
+        for (Path shard : shards) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(shard, Files::isRegularFile)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    if (ENVIRONMENT.equals(name)) {
+                        readEnvironment(file, shard.getFileName().toString(), environment);
+                        continue;
+                    }
+                    Path target = resultsDir.resolve(name);
+                    if (!Files.exists(target)) {
+                        Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES);
+                        copied++;
+                    }
+                }
+            }
+        }
+
+        if (!environment.isEmpty()) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("workers=").append(shards.size()).append('\n');
+            environment.forEach((key, value) -> sb.append(key).append('=').append(value).append('\n'));
+            Files.write(resultsDir.resolve(ENVIRONMENT), sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        System.out.println("✅ " + shards.size() + " işçi sonucu birleştirildi / Merged " + shards.size()
+                + " worker shards (" + copied + " files) into " + resultsDir);
+    }
+
+    private static void readEnvironment(Path file, String shardName, TreeMap<String, String> environment) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (!"worker".equals(key)) {
+                environment.put(shardName + "." + key, properties.getProperty(key));
+            }
+        }
+    }
+}
@@ -1,49 +0,0 @@
-package com.mobile.test.base;
-
-import io.appium.java_client.android.AndroidDriver;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import java.time.Duration;
-
-public class BasePage {
-    protected AndroidDriver driver;
-    protected WebDriverWait wait;
-
-    public BasePage(AndroidDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(new AppiumFieldDecorator(driver), this);
-    }
-
-    protected void waitForElementToBeVisible(WebElement element) {
-        wait.until(ExpectedConditions.visibilityOf(element));
-    }
-
-    protected void click(WebElement element) {
-        waitForElementToBeVisible(element);
-        element.click();
-    }
-
-    protected void sendKeys(WebElement element, String text) {
-        waitForElementToBeVisible(element);
-        element.clear();
-        element.sendKeys(text);
-    }
-
-    protected String getText(WebElement element) {
-        waitForElementToBeVisible(element);
-        return element.getText();
-    }
-
-    protected boolean isElementDisplayed(WebElement element) {
-        try {
-            waitForElementToBeVisible(element);
-            return element.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
-    }
-}
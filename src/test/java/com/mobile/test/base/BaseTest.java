@@ -1,101 +1,174 @@
 package com.mobile.test.base;
 
-import com.mobile.test.constants.Constants;
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.driver.CommandMetrics;
+import com.mobile.test.driver.DeviceConfig;
+import com.mobile.test.driver.DriverPool;
+import com.mobile.test.driver.DriverSession;
+import com.mobile.test.driver.WorkerShard;
+import com.mobile.test.fake.FakeAppiumServer;
+import com.mobile.test.helpers.LocatorProfiler;
+import com.mobile.test.helpers.ScreenshotPipeline;
+import com.mobile.test.helpers.StartupTimeline;
+import com.mobile.test.helpers.WaitStats;
 import com.mobile.test.pages.*;
+import com.mobile.test.preconditions.Given;
+import com.mobile.test.preconditions.Preconditions;
+import com.mobile.test.reset.AppResetter;
+import com.mobile.test.reset.ResetMode;
+import com.mobile.test.reset.ResetWith;
 import io.appium.java_client.android.AndroidDriver;
-import io.appium.java_client.android.options.UiAutomator2Options;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
-import io.qameta.allure.Attachment;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.remote.DesiredCapabilities;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import io.qameta.allure.Allure;
 import org.testng.annotations.*;
 
-import java.io.File;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * Tüm test sınıflarının türeyeceği temel test sınıfı
  * Base test class that all test classes will extend
+ *
+ * <p>Sürücüler {@link DriverPool} üzerinden iş parçacığı başına kiralanır; böylece TestNG
+ * {@code parallel="methods"} veya {@code "classes"} ile birden fazla cihazda çalışabilir.
+ * Drivers are leased per thread from the {@link DriverPool}, so TestNG can fan tests out
+ * across several devices with {@code parallel="methods"} or {@code "classes"}.</p>
  */
 public class BaseTest {
-    protected static AndroidDriver driver;
-    protected static WebDriverWait wait;
-    protected LoginPage loginPage;
-    protected ProductsPage productsPage;
-    protected CartPage cartPage;
-    protected CheckoutPage checkoutPage;
-    private static final String APP_PACKAGE = "com.swaglabsmobileapp";
-    private static final String MAIN_ACTIVITY = "com.swaglabsmobileapp.MainActivity";
+    private static final ThreadLocal<PageRegistry> PAGES = new ThreadLocal<>();
+    private static FakeAppiumServer fakeServer;
 
+    /**
+     * Bağımsız başlangıç işlerini paralel yürütür
+     * Runs the independent startup work concurrently: every device's session, page metadata,
+     * the Allure results directory and the screenshot pipeline; the timeline with its critical
+     * path goes to target/startup-timeline.txt ({@code startup.warmup=false} opens sessions on first use)
+     */
     @BeforeSuite(alwaysRun = true)
-    public static void globalSetup() throws MalformedURLException {
-        if (driver == null) {
-            // Appium sunucusu ayarları
-            String appiumServerUrl = "http://127.0.0.1:4723";
-            
-            // Uygulama dosya yolu
-            String appPath = System.getProperty("user.dir") + "/apps/sauce-demo-app.apk";
-            
-            // Cihaz özellikleri
-            DesiredCapabilities capabilities = new DesiredCapabilities();
-            capabilities.setCapability("platformName", "Android");
-            capabilities.setCapability("deviceName", "Medium_Phone_API_35");
-            capabilities.setCapability("app", appPath);
-            capabilities.setCapability("automationName", "UiAutomator2");
-            capabilities.setCapability("noReset", true);
-            capabilities.setCapability("autoGrantPermissions", true);
-            capabilities.setCapability("appWaitActivity", "com.swaglabsmobileapp.MainActivity");
-            capabilities.setCapability("appPackage", "com.swaglabsmobileapp");
-            
-            // Uzun zaman aşımları
-            capabilities.setCapability("uiautomator2ServerInstallTimeout", 120000);
-            capabilities.setCapability("uiautomator2ServerLaunchTimeout", 120000);
-            
-            try {
-                System.out.println("🔄 Appium sürücüsü başlatılıyor... / Starting Appium driver...");
-                driver = new AndroidDriver(new URL(appiumServerUrl), capabilities);
-                
-                // WebDriverWait oluştur
-                wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-                
-                // Uygulamayı temizle ve başlat
-                driver.terminateApp("com.swaglabsmobileapp");
-                driver.activateApp("com.swaglabsmobileapp");
-                
-                System.out.println("✅ Appium sürücüsü başarıyla başlatıldı. Uygulama açıldı.");
-                System.out.println("✅ Appium driver started successfully. App launched.");
-                
-            } catch (Exception e) {
-                System.err.println("❌ Appium sürücüsü başlatılamadı / Failed to start Appium driver: " + e.getMessage());
-                e.printStackTrace();
-                throw new RuntimeException("Appium Sürücüsü başlatılamadı / Failed to initialize Appium Driver.", e);
+    public static void globalSetup() {
+        StartupTimeline timeline = new StartupTimeline();
+        ConfigManager config = timeline.call("config", ConfigManager::getInstance);
+        // fake.server=true: oturumlar cihaz yerine yerel sahte sunucuya açılır / sessions go to the local fake server instead of a device
+        timeline.run("fake server", () -> {
+            fakeServer = FakeAppiumServer.fromConfig(config);
+            if (fakeServer != null) {
+                System.setProperty("appium.server.url", fakeServer.getUrl());
+            }
+        }, "config");
+        DriverPool pool = timeline.call("driver pool", DriverPool::getInstance, "fake server");
+
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService startup = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "suite-startup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<?>> work = new ArrayList<>();
+            if (Boolean.parseBoolean(config.getProperty("startup.warmup", "true"))) {
+                work.add(pool.warmUp(startup, timeline, "driver pool"));
             }
+            work.add(CompletableFuture.runAsync(() -> timeline.run("page metadata",
+                    () -> PageRegistry.precompute(LoginPage.class, ProductsPage.class, CartPage.class, CheckoutPage.class), "config"), startup));
+            work.add(CompletableFuture.runAsync(() -> timeline.run("allure results dir", BaseTest::prepareAllureResults, "config"), startup));
+            work.add(CompletableFuture.runAsync(() -> timeline.run("screenshot pipeline", ScreenshotPipeline::getInstance, "config"), startup));
+            CompletableFuture.allOf(work.toArray(new CompletableFuture[0])).join();
+        } finally {
+            startup.shutdown();
         }
+        System.out.print(timeline.report());
+        timeline.writeReport(WorkerShard.outputDir().resolve("startup-timeline.txt"));
     }
 
-    /**
-     * Ekran görüntüsü alır ve rapora ekler
-     * Takes a screenshot and attaches it to the report
-     * @param name Ekran görüntüsü için isim / Name for the screenshot
-     * @return Ekran görüntüsü verisi / Screenshot data
-     */
-    @Attachment(value = "Screenshot - {0}", type = "image/png")
-    public static byte[] takeScreenshot(String name) {
+    private static void prepareAllureResults() {
+        Path results = Paths.get(System.getProperty("allure.results.directory",
+                WorkerShard.outputDir().resolve("allure-results").toString()));
         try {
-            System.out.println("📸 Taking screenshot: " + name);
-            if (driver != null) {
-                return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            Files.createDirectories(results);
+            if (WorkerShard.isWorker()) {
+                // Birleştirme adımı işçi/cihaz eşlemesini buradan okur / AllureShardMerger reads the worker's device from here
+                String devices = DeviceConfig.fromConfig(ConfigManager.getInstance()).stream()
+                        .map(DeviceConfig::getName).collect(Collectors.joining(","));
+                Files.write(results.resolve("environment.properties"),
+                        ("worker=" + WorkerShard.index() + "\ndevice=" + devices + "\n").getBytes(StandardCharsets.UTF_8));
             }
-        } catch (Exception e) {
-            System.err.println("⚠️ Failed to take screenshot: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("⚠️ Allure sonuç dizini oluşturulamadı / Could not create " + results + ": " + e.getMessage());
         }
-        return new byte[0];
+    }
+
+    /**
+     * Çağıran iş parçacığına bağlı sürücüyü döndürür
+     * Returns the driver bound to the calling thread, leasing one from the pool on first use
+     */
+    protected static AndroidDriver getDriver() {
+        return DriverPool.getInstance().lease();
+    }
+
+    /**
+     * Uygulama ön plana gelene kadar bekler
+     * Waits until the app reports it is running in the foreground instead of sleeping a fixed time
+     */
+    protected void waitForAppReady() {
+        appResetter().waitForAppReady();
+    }
+
+    /**
+     * Uygulamayı test sınıfının {@link ResetWith} ile seçtiği yöntemle sıfırlar
+     * Resets the app with the strategy selected by the test class' {@link ResetWith}
+     * (cold restart when absent); {@code -Dreset.mode} overrides it for the whole run
+     */
+    protected ResetMode resetApp() {
+        ResetWith resetWith = getClass().getAnnotation(ResetWith.class);
+        ResetMode mode = resetWith != null ? resetWith.value() : ResetMode.COLD_RESTART;
+        String override = ConfigManager.getInstance().getProperty("reset.mode", "");
+        if (!override.isEmpty()) {
+            mode = ResetMode.valueOf(override.toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+        return appResetter().reset(mode, resetWith != null ? resetWith.deepLink() : "");
+    }
+
+    /**
+     * Testin {@link Given} ön koşullarını sağlar; bildirilmemişse yalnızca uygulamayı sıfırlar
+     * Establishes the test's {@link Given} preconditions (method level first, then class level);
+     * tests without preconditions only get {@link #resetApp()}
+     */
+    protected void prepareApp(Method testMethod) {
+        Given given = testMethod.getAnnotation(Given.class);
+        if (given == null) {
+            given = getClass().getAnnotation(Given.class);
+        }
+        if (given == null) {
+            resetApp();
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        new Preconditions(getDriver(), config.getAppPackage(), Boolean.parseBoolean(config.getProperty("given.deep.links", "true")))
+                .establish(given.value(), this::resetApp);
+    }
+
+    private AppResetter appResetter() {
+        return new AppResetter(getDriver(), ConfigManager.getInstance().getAppPackage());
+    }
+
+    /**
+     * Ekran görüntüsü ister; görüntü arka planda alınır ve test bitince rapora eklenir
+     * Requests a screenshot; it is captured in the background and attached when the test ends
+     * @param name Ekran görüntüsü için isim / Name for the screenshot
+     */
+    public static void takeScreenshot(String name) {
+        ScreenshotPipeline.getInstance().request(DriverPool.isInitialized() ? DriverPool.getInstance().current() : null, name);
     }
 
     /**
@@ -107,7 +180,7 @@ public class BaseTest {
     protected void takeScreenshotOnFailure(String testName, String error) {
         try {
             String screenshotName = testName + "_FAILED_" + System.currentTimeMillis();
-            takeScreenshot(screenshotName);
+            ScreenshotPipeline.getInstance().requestForced(DriverPool.isInitialized() ? DriverPool.getInstance().current() : null, screenshotName);
             System.out.println("❌ Test başarısız oldu: " + testName);
             System.out.println("❌ Hata: " + error);
             System.out.println("❌ Screenshot alındı: " + screenshotName);
@@ -120,36 +193,111 @@ public class BaseTest {
         }
     }
 
+    /**
+     * Bu iş parçacığının sürücü oturumuna ait sayfa kayıt defterini bağlar
+     * Binds the page registry of this thread's driver session; pages are built on first use
+     * and reused by every later test on the same session
+     */
     protected void pageInit() {
-        loginPage = new LoginPage(driver);
-        productsPage = new ProductsPage(driver);
-        cartPage = new CartPage(driver);
-        checkoutPage = new CheckoutPage(driver);
-        
-        // Initialize PageFactory elements
-        PageFactory.initElements(new AppiumFieldDecorator(driver), loginPage);
-        PageFactory.initElements(new AppiumFieldDecorator(driver), productsPage);
-        PageFactory.initElements(new AppiumFieldDecorator(driver), cartPage);
-        PageFactory.initElements(new AppiumFieldDecorator(driver), checkoutPage);
+        PAGES.set(PageRegistry.of(getDriver()));
+    }
+
+    protected LoginPage loginPage() {
+        return pages().get(LoginPage.class);
+    }
+
+    protected ProductsPage productsPage() {
+        return pages().get(ProductsPage.class);
+    }
+
+    protected CartPage cartPage() {
+        return pages().get(CartPage.class);
+    }
+
+    protected CheckoutPage checkoutPage() {
+        return pages().get(CheckoutPage.class);
+    }
+
+    private PageRegistry pages() {
+        PageRegistry pages = PAGES.get();
+        if (pages == null) {
+            throw new IllegalStateException("Pages are not initialized for this thread; call pageInit() first");
+        }
+        return pages;
+    }
+
+    /**
+     * Testin sürücüsünü havuza geri verir
+     * Returns this thread's driver to the pool once the test and its teardown have finished
+     */
+    @AfterMethod(alwaysRun = true)
+    public void releaseDriver() {
+        // Teardown ekran görüntüleri sürücü havuza dönmeden eklenmeli / Attach teardown screenshots before the driver goes back to the pool
+        ScreenshotPipeline.getInstance().flush();
+        PAGES.remove();
+        if (DriverPool.isInitialized()) {
+            DriverPool.getInstance().release();
+        }
     }
 
     @AfterSuite(alwaysRun = true)
     public static void globalTearDown() {
-        if (driver != null) {
-            try {
-                if (driver.getSessionId() != null) {
-                    takeScreenshot("Test_Suite_End_" + System.currentTimeMillis());
+        try {
+            if (!DriverPool.isInitialized()) {
+                return;
+            }
+            DriverPool pool = DriverPool.getInstance();
+            for (DriverSession session : pool.getSessions()) {
+                try {
+                    if (session.getDriver().getSessionId() != null) {
+                        ScreenshotPipeline.getInstance().captureNow(session.getDriver(),
+                                "Test_Suite_End_" + session.getDevice().getName() + "_" + System.currentTimeMillis());
+                    }
+                } catch (Exception e) {
+                    System.err.println("⚠️ Oturum kapatılırken hata oluştu / Error while terminating session: " + e.getMessage());
                 }
-                
-                driver.quit();
-                System.out.println("❌ Appium oturumu sonlandırıldı.");
-                System.out.println("❌ Appium session terminated.");
-            } catch (Exception e) {
-                System.err.println("⚠️ Oturum kapatılırken hata oluştu / Error while terminating session: " + e.getMessage());
-            } finally {
-                driver = null;
-                wait = null;
             }
+            if (ScreenshotPipeline.isInitialized()) {
+                ScreenshotPipeline.getInstance().shutdown();
+            }
+            pool.shutdown();
+            WaitStats.writeReport(WorkerShard.outputDir().resolve("wait-latency-report.txt"));
+            exportCommandMetrics();
+            if (ElementCache.hasData()) {
+                ElementCache.writeReport(WorkerShard.outputDir().resolve("element-cache-report.txt"));
+                Allure.addAttachment("Element cache", "text/plain", ElementCache.report(), ".txt");
+            }
+            if (LocatorProfiler.hasData()) {
+                LocatorProfiler.writeReport(WorkerShard.outputDir().resolve("locator-profile.txt"));
+                Allure.addAttachment("Locator profile", "text/plain", LocatorProfiler.report(), ".txt");
+            }
+            System.out.println("❌ Appium oturumu sonlandırıldı.");
+            System.out.println("❌ Appium session terminated.");
+        } finally {
+            // Havuz kurulamadıysa da suit kaynakları kapanmalı / Suite resources must stop even if the pool was never built
+            if (ScreenshotPipeline.isInitialized()) {
+                ScreenshotPipeline.getInstance().shutdown();
+            }
+            if (fakeServer != null) {
+                fakeServer.stop();
+                fakeServer = null;
+            }
+        }
+    }
+
+    /**
+     * Komut gecikmelerini Prometheus dosyası ve Allure eki olarak yazar
+     * Writes the command latencies as a Prometheus text file and attaches them to the run's report
+     */
+    private static void exportCommandMetrics() {
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        if (metrics.isEmpty()) {
+            return;
         }
+        String report = metrics.report();
+        System.out.println(report);
+        metrics.writePrometheus(WorkerShard.outputDir().resolve("command-metrics.prom"));
+        Allure.addAttachment("Driver command latency", "text/plain", report, ".txt");
+        Allure.addAttachment("Driver command metrics (Prometheus)", "text/plain", metrics.toPrometheus(), ".prom");
     }
 }
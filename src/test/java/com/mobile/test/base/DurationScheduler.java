@@ -0,0 +1,137 @@
+package com.mobile.test.base;
+
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.driver.DriverPool;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Testleri geçmiş sürelerine göre cihazlara dağıtan zamanlayıcı
+ * Orders a parallel suite longest-processing-time first so the devices finish together
+ *
+ * <p>Methods are sorted by their estimated duration from {@link TestDurationHistory}, longest
+ * first, and the suite's thread count is set to the driver pool size: one worker per device.
+ * Each worker takes the next test from the shared, ordered queue as soon as its device is
+ * free, which is LPT list scheduling with work stealing built in: a shard that finishes early
+ * simply takes more tests. The static LPT partition is logged as the expected plan.</p>
+ *
+ * <p>Sorting overrides the methods' {@code priority}, since TestNG runs free methods in
+ * priority order; the tests do not depend on each other, every test prepares its own app
+ * state. Registered only in {@code testng-parallel.xml}; the sequential suite keeps its
+ * order. History file: {@code scheduler.history.file}.</p>
+ */
+public class DurationScheduler implements IAlterSuiteListener, IMethodInterceptor, ITestListener, ISuiteListener {
+    private static final Logger LOG = LogManager.getLogger(DurationScheduler.class);
+    private static TestDurationHistory history;
+
+    private static synchronized TestDurationHistory history() {
+        if (history == null) {
+            Path file = Paths.get(ConfigManager.getInstance().getProperty("scheduler.history.file", ".test-history/durations.properties"));
+            history = new TestDurationHistory(file.isAbsolute() ? file : Paths.get(System.getProperty("user.dir")).resolve(file));
+        }
+        return history;
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int shards = DriverPool.configuredSize(ConfigManager.getInstance());
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() != null && suite.getParallel().isParallel()) {
+                suite.setThreadCount(shards);
+                LOG.info("🔀 {}: {} iş parçacığı, cihaz başına bir / {} worker thread(s), one per device", suite.getName(), shards, shards);
+            }
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        TestDurationHistory durations = history();
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance m) -> durations.estimate(key(m.getMethod()))).reversed());
+        for (int i = 0; i < ordered.size(); i++) {
+            ordered.get(i).getMethod().setPriority(i);
+        }
+        logPlan(ordered, durations, DriverPool.configuredSize(ConfigManager.getInstance()));
+        return ordered;
+    }
+
+    private static void logPlan(List<IMethodInstance> ordered, TestDurationHistory durations, int shards) {
+        List<Shard> plan = new ArrayList<>();
+        PriorityQueue<Shard> byLoad = new PriorityQueue<>(Comparator.comparingLong((Shard s) -> s.millis).thenComparingInt(s -> s.index));
+        for (int i = 0; i < Math.max(1, shards); i++) {
+            Shard shard = new Shard(i);
+            plan.add(shard);
+            byLoad.add(shard);
+        }
+        long total = 0;
+        int unknown = 0;
+        for (IMethodInstance method : ordered) {
+            String test = key(method.getMethod());
+            long estimate = durations.estimate(test);
+            if (!durations.isKnown(test)) {
+                unknown++;
+            }
+            total += estimate;
+            Shard shard = byLoad.poll();
+            shard.millis += estimate;
+            shard.tests.add(method.getMethod().getMethodName());
+            byLoad.add(shard);
+        }
+        long makespan = plan.stream().mapToLong(s -> s.millis).max().orElse(0);
+        LOG.info("🔀 LPT planı / LPT plan: {} test(s) on {} shard(s), estimated {} s instead of {} s sequential ({} without history)",
+                ordered.size(), plan.size(), makespan / 1000, total / 1000, unknown);
+        for (Shard shard : plan) {
+            LOG.info("   shard {}: ~{} s {}", shard.index, shard.millis / 1000, shard.tests);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    private static void record(ITestResult result) {
+        history().record(key(result.getMethod()), result.getEndMillis() - result.getStartMillis());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        history().save();
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+
+    private static final class Shard {
+        private final int index;
+        private final List<String> tests = new ArrayList<>();
+        private long millis;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.mobile.test.base;
+
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.driver.WorkerShard;
+import com.mobile.test.helpers.HierarchyDiff;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.helpers.PageSourceSnapshot;
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Başarısız testin sayfa kaynağını son başarılı çalıştırmayla karşılaştırır
+ * Triages a failed test by diffing its hierarchy against the last passing run of the same test
+ *
+ * <p>A passing test leaves its final hierarchy, gzip-compressed, under
+ * {@code triage.known.good.dir} (relative to the project directory). The hierarchy is
+ * downloaded fresh when the test ends, since a cached snapshot may show a screen from the
+ * middle of the test; the file is only rewritten when it changed. A failing test stores its hierarchy
+ * once, compressed, under {@code logs/page-sources/}. Allure gets only the structural diff
+ * against the known-good hierarchy and the nodes closest to the locator named in the
+ * failure, never the full page source.</p>
+ */
+final class FailureTriage {
+    private static final Logger LOG = LogManager.getLogger(FailureTriage.class);
+    private static final int NEAREST_MATCHES = 5;
+    private static final Path KNOWN_GOOD_DIR = Paths.get(System.getProperty("user.dir")).resolve(
+            ConfigManager.getInstance().getProperty("triage.known.good.dir", ".test-history/known-good"));
+    private static final Path FAILURE_DIR = WorkerShard.outputDir().resolve("logs").resolve("page-sources");
+    // Son yazılan iyi kaynağın özeti / Hash of the known-good source last written per test, to skip identical rewrites
+    private static final Map<String, Integer> WRITTEN = new ConcurrentHashMap<>();
+
+    private FailureTriage() {
+    }
+
+    static void recordPass(String test, AndroidDriver driver) {
+        Path target = KNOWN_GOOD_DIR.resolve(test + ".xml.gz");
+        try {
+            PageSourceSnapshot snapshot = PageSourceCache.of(driver).refresh();
+            if (Integer.valueOf(snapshot.getXml().hashCode()).equals(WRITTEN.get(test)) && Files.exists(target)) {
+                return;
+            }
+            writeCompressed(target, snapshot.getXml());
+            WRITTEN.put(test, snapshot.getXml().hashCode());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("⚠️ Başarılı sayfa kaynağı kaydedilemedi / Could not store known-good page source: {}", e.getMessage());
+        }
+    }
+
+    static void recordFailure(String test, AndroidDriver driver, Throwable failure) {
+        try {
+            PageSourceSnapshot failed = PageSourceCache.of(driver).refresh();
+            Path stored = FAILURE_DIR.resolve(test + "-" + System.currentTimeMillis() + ".xml.gz");
+            long compressed = writeCompressed(stored, failed.getXml());
+            LOG.error("❌ Sayfa kaynağı kaydedildi / Page source saved: {} ({} KB, {} KB compressed)",
+                    stored, failed.getXml().length() / 1024, compressed / 1024);
+
+            Path knownGood = KNOWN_GOOD_DIR.resolve(test + ".xml.gz");
+            if (Files.exists(knownGood)) {
+                String diff = HierarchyDiff.diff(PageSourceSnapshot.parse(readCompressed(knownGood)), failed);
+                Allure.addAttachment("Hierarchy diff vs last passing run", "text/plain",
+                        diff.isEmpty() ? "No structural difference from the last passing run\n" : diff, ".diff");
+            } else {
+                LOG.info("ℹ️ {} için başarılı kaynak yok / No known-good hierarchy yet for {}", test, test);
+            }
+
+            List<String> values = HierarchyDiff.locatorValues(failure);
+            if (!values.isEmpty()) {
+                StringBuilder sb = new StringBuilder();
+                for (String value : values) {
+                    sb.append("Closest to \"").append(value).append("\":\n");
+                    for (String match : HierarchyDiff.nearestMatches(failed, value, NEAREST_MATCHES)) {
+                        sb.append("  ").append(match).append('\n');
+                    }
+                }
+                Allure.addAttachment("Nearest matches for the failed locator", "text/plain", sb.toString(), ".txt");
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("⚠️ Hata analizi yapılamadı / Failure triage failed: {}", e.getMessage());
+        }
+    }
+
+    private static long writeCompressed(Path target, String xml) throws IOException {
+        Files.createDirectories(target.getParent());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(xml.getBytes(StandardCharsets.UTF_8));
+        }
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(temporary, bytes.toByteArray());
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return bytes.size();
+    }
+
+    private static String readCompressed(Path source) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(source))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
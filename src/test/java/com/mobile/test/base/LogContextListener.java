@@ -0,0 +1,42 @@
+package com.mobile.test.base;
+
+import com.mobile.test.driver.DriverPool;
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Günlük kayıtlarını çalışan testle etiketler, başarısız testleri sayfa kaynağı farkıyla inceler
+ * Tags each thread's log lines with the running test and hands test outcomes to {@link FailureTriage}
+ *
+ * <p>Page sources are never logged; a failing test method gets one compressed file under
+ * {@code logs/page-sources/}, a single log line pointing to it and a hierarchy diff in Allure.</p>
+ */
+public class LogContextListener implements IInvokedMethodListener {
+    public static final String TEST_KEY = "test";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ThreadContext.put(TEST_KEY, testName(method, testResult));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        try {
+            AndroidDriver driver = method.isTestMethod() && DriverPool.isInitialized() ? DriverPool.getInstance().current() : null;
+            if (driver != null && testResult.getStatus() == ITestResult.FAILURE) {
+                FailureTriage.recordFailure(testName(method, testResult), driver, testResult.getThrowable());
+            } else if (driver != null && testResult.getStatus() == ITestResult.SUCCESS) {
+                FailureTriage.recordPass(testName(method, testResult), driver);
+            }
+        } finally {
+            ThreadContext.remove(TEST_KEY);
+        }
+    }
+
+    private static String testName(IInvokedMethod method, ITestResult testResult) {
+        return testResult.getTestClass().getRealClass().getSimpleName() + "." + method.getTestMethod().getMethodName();
+    }
+}
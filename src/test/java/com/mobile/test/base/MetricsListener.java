@@ -0,0 +1,24 @@
+package com.mobile.test.base;
+
+import com.mobile.test.driver.CommandMetrics;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Sürücü komutlarını çalışan test ile etiketler
+ * Tags the driver commands of each thread with the test (or configuration method) it runs
+ */
+public class MetricsListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        CommandMetrics.setCurrentTest(testResult.getTestClass().getRealClass().getSimpleName()
+                + "." + method.getTestMethod().getMethodName());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        CommandMetrics.setCurrentTest(null);
+    }
+}
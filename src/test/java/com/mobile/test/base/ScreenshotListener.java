@@ -0,0 +1,32 @@
+package com.mobile.test.base;
+
+import com.mobile.test.driver.DriverPool;
+import com.mobile.test.helpers.ScreenshotPipeline;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Test metodu biter bitmez kuyruktaki ekran görüntülerini teste ekler
+ * Attaches a test's queued screenshots as soon as the test method returns
+ *
+ * <p>Runs while Allure still considers the test case current, so the attachments land on the
+ * test itself rather than on a teardown fixture. With a policy other than
+ * {@link ScreenshotPipeline.Policy#ALWAYS} a failing test gets one final screenshot.</p>
+ */
+public class ScreenshotListener implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || !ScreenshotPipeline.isInitialized()) {
+            return;
+        }
+        ScreenshotPipeline pipeline = ScreenshotPipeline.getInstance();
+        if (testResult.getStatus() == ITestResult.FAILURE
+                && pipeline.getPolicy() != ScreenshotPipeline.Policy.ALWAYS
+                && DriverPool.isInitialized()) {
+            pipeline.requestForced(DriverPool.getInstance().current(), testResult.getName() + "_FAILED");
+        }
+        pipeline.flush();
+    }
+}
@@ -0,0 +1,83 @@
+package com.mobile.test.base;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Testlerin geçmiş çalışma sürelerini saklar
+ * Per-test duration history, kept across runs in a properties file
+ *
+ * <p>Each run's duration is folded into an exponentially weighted moving average
+ * (weight {@value #SMOOTHING} for the newest run), so one slow run on a busy device moves the
+ * estimate without taking it over. Tests with no history are estimated at the longest known
+ * duration, which schedules them early rather than leaving them for the tail.</p>
+ */
+public class TestDurationHistory {
+    static final double SMOOTHING = 0.5;
+    private static final long UNKNOWN_MILLIS = 60_000;
+    private static final Logger LOG = LogManager.getLogger(TestDurationHistory.class);
+
+    private final Path file;
+    private final Map<String, Long> millis = new ConcurrentHashMap<>();
+
+    public TestDurationHistory(Path file) {
+        this.file = file;
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+                for (String test : properties.stringPropertyNames()) {
+                    millis.put(test, Long.parseLong(properties.getProperty(test).trim()));
+                }
+            } catch (IOException | NumberFormatException e) {
+                LOG.warn("⚠️ Süre geçmişi okunamadı / Could not read the duration history {}: {}", file, e.getMessage());
+                millis.clear();
+            }
+        }
+    }
+
+    public boolean isKnown(String test) {
+        return millis.containsKey(test);
+    }
+
+    /**
+     * Estimated duration of the test in milliseconds.
+     */
+    public long estimate(String test) {
+        Long known = millis.get(test);
+        if (known != null) {
+            return known;
+        }
+        return millis.values().stream().mapToLong(Long::longValue).max().orElse(UNKNOWN_MILLIS);
+    }
+
+    public void record(String test, long durationMillis) {
+        millis.merge(test, durationMillis, (old, latest) -> Math.round(SMOOTHING * latest + (1 - SMOOTHING) * old));
+    }
+
+    public void save() {
+        Properties properties = new Properties();
+        new TreeMap<>(millis).forEach((test, value) -> properties.setProperty(test, Long.toString(value)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Test durations in ms (moving average), used by DurationScheduler");
+            }
+        } catch (IOException e) {
+            LOG.warn("⚠️ Süre geçmişi yazılamadı / Could not write the duration history {}: {}", file, e.getMessage());
+        }
+    }
+}
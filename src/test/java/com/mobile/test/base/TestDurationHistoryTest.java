@@ -0,0 +1,79 @@
+package com.mobile.test.base;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestDurationHistoryTest {
+    private Path dir;
+
+    @BeforeMethod
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("duration-history");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteDir() throws IOException {
+        Files.deleteIfExists(dir.resolve("durations.properties"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Test
+    public void firstRunIsTakenAsIs() {
+        TestDurationHistory history = new TestDurationHistory(dir.resolve("durations.properties"));
+        history.record("LoginTest.successfulLoginTest", 12_000);
+
+        Assert.assertTrue(history.isKnown("LoginTest.successfulLoginTest"));
+        Assert.assertEquals(history.estimate("LoginTest.successfulLoginTest"), 12_000);
+    }
+
+    @Test
+    public void laterRunsAreSmoothed() {
+        TestDurationHistory history = new TestDurationHistory(dir.resolve("durations.properties"));
+        history.record("CheckoutTest.completeOrderTest", 10_000);
+        history.record("CheckoutTest.completeOrderTest", 30_000);
+        Assert.assertEquals(history.estimate("CheckoutTest.completeOrderTest"), 20_000);
+
+        history.record("CheckoutTest.completeOrderTest", 20_000);
+        Assert.assertEquals(history.estimate("CheckoutTest.completeOrderTest"), 20_000);
+    }
+
+    @Test
+    public void unknownTestIsEstimatedAtTheLongestKnownDuration() {
+        TestDurationHistory history = new TestDurationHistory(dir.resolve("durations.properties"));
+        Assert.assertEquals(history.estimate("CartTest.addProductToCartTest"), 60_000);
+
+        history.record("LoginTest.logoutTest", 8_000);
+        history.record("CheckoutTest.completeOrderTest", 25_000);
+        Assert.assertFalse(history.isKnown("CartTest.addProductToCartTest"));
+        Assert.assertEquals(history.estimate("CartTest.addProductToCartTest"), 25_000);
+    }
+
+    @Test
+    public void historySurvivesSaveAndReload() {
+        Path file = dir.resolve("durations.properties");
+        TestDurationHistory history = new TestDurationHistory(file);
+        history.record("LoginTest.invalidLoginTest", 9_500);
+        history.save();
+
+        TestDurationHistory reloaded = new TestDurationHistory(file);
+        Assert.assertTrue(reloaded.isKnown("LoginTest.invalidLoginTest"));
+        Assert.assertEquals(reloaded.estimate("LoginTest.invalidLoginTest"), 9_500);
+    }
+
+    @Test
+    public void unreadableHistoryStartsEmpty() throws IOException {
+        Path file = dir.resolve("durations.properties");
+        Files.write(file, "LoginTest.logoutTest=8000\nCartTest.addProductToCartTest=slow\n".getBytes(StandardCharsets.UTF_8));
+
+        TestDurationHistory history = new TestDurationHistory(file);
+        Assert.assertFalse(history.isKnown("LoginTest.logoutTest"));
+        Assert.assertEquals(history.estimate("LoginTest.logoutTest"), 60_000);
+    }
+}
@@ -0,0 +1,17 @@
+package com.mobile.test.driver;
+
+import org.openqa.selenium.remote.Command;
+
+/**
+ * Sürücüye gönderilen her komuttan sonra çağrılan dinleyici
+ * Callback invoked after every command sent through an {@link ObservingCommandExecutor}
+ */
+public interface CommandListener {
+
+    /**
+     * @param command      the command that was executed
+     * @param elapsedNanos wall time of the round trip
+     * @param failure      the exception thrown by the command, or null on success
+     */
+    void afterCommand(Command command, long elapsedNanos, Throwable failure);
+}
@@ -0,0 +1,222 @@
+package com.mobile.test.driver;
+
+import com.mobile.test.helpers.LatencyHistogram;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sürücü komutlarının test ve sayfa bazında gecikme ölçümleri
+ * Per-command latency of every driver call, tagged by test and page class
+ *
+ * <p>Registered on each session's {@link ObservingCommandExecutor}, so it sees exactly what goes
+ * over the wire: element lookups by strategy, clicks, keys, page sources, screenshots, actions
+ * and scripts. The test tag is set per thread by {@code MetricsListener}; the page tag is the
+ * innermost page object on the calling stack. Commands issued off the test threads (e.g. the
+ * screenshot pipeline) are tagged {@code -}.</p>
+ */
+public final class CommandMetrics implements CommandListener {
+    private static final CommandMetrics INSTANCE = new CommandMetrics();
+    private static final String PAGES_PACKAGE = "com.mobile.test.pages.";
+    private static final String UNTAGGED = "-";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99};
+
+    private static final ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+    private final ConcurrentMap<Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, AtomicLong> failures = new ConcurrentHashMap<>();
+    private final StackWalker stackWalker = StackWalker.getInstance();
+
+    private CommandMetrics() {
+    }
+
+    public static CommandMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tags the calling thread's commands with the given test until it is changed or cleared.
+     */
+    public static void setCurrentTest(String test) {
+        if (test == null) {
+            CURRENT_TEST.remove();
+        } else {
+            CURRENT_TEST.set(test);
+        }
+    }
+
+    @Override
+    public void afterCommand(Command command, long elapsedNanos, Throwable failure) {
+        String test = CURRENT_TEST.get();
+        Key key = new Key(label(command), test != null ? test : UNTAGGED, currentPage());
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(elapsedNanos);
+        if (failure != null) {
+            failures.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Command name, refined with the locator strategy for lookups and the script for
+     * {@code mobile:} commands, e.g. {@code findElement[xpath]}.
+     */
+    static String label(Command command) {
+        String name = command.getName();
+        switch (name) {
+            case DriverCommand.FIND_ELEMENT:
+            case DriverCommand.FIND_ELEMENTS:
+            case DriverCommand.FIND_CHILD_ELEMENT:
+            case DriverCommand.FIND_CHILD_ELEMENTS:
+                return name + "[" + command.getParameters().get("using") + "]";
+            case DriverCommand.EXECUTE_SCRIPT: {
+                String script = String.valueOf(command.getParameters().get("script"));
+                return name + "[" + (script.startsWith("mobile:") ? script : "js") + "]";
+            }
+            default:
+                return name;
+        }
+    }
+
+    private String currentPage() {
+        Optional<String> page = stackWalker.walk(frames -> frames
+                .map(StackWalker.StackFrame::getClassName)
+                .filter(className -> className.startsWith(PAGES_PACKAGE))
+                .map(className -> className.substring(PAGES_PACKAGE.length()).replaceFirst("\\$.*", ""))
+                .filter(simpleName -> !"BasePage".equals(simpleName) && !"PageRegistry".equals(simpleName))
+                .findFirst());
+        return page.orElse(UNTAGGED);
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /**
+     * Prometheus text exposition of all series: a summary per command/test/page plus a
+     * failure counter.
+     */
+    public String toPrometheus() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# HELP appium_command_duration_seconds Latency of Appium driver commands as seen by the client\n");
+        sb.append("# TYPE appium_command_duration_seconds summary\n");
+        Map<Key, LatencyHistogram> sorted = new TreeMap<>(histograms);
+        for (Map.Entry<Key, LatencyHistogram> entry : sorted.entrySet()) {
+            String labels = entry.getKey().labels();
+            LatencyHistogram h = entry.getValue();
+            for (double quantile : QUANTILES) {
+                sb.append("appium_command_duration_seconds{").append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                        .append(h.getPercentileMillis(quantile * 100) / 1000.0).append('\n');
+            }
+            sb.append("appium_command_duration_seconds_sum{").append(labels).append("} ").append(h.getTotalMillis() / 1000.0).append('\n');
+            sb.append("appium_command_duration_seconds_count{").append(labels).append("} ").append(h.getCount()).append('\n');
+        }
+        sb.append("# HELP appium_command_failures_total Driver commands that ended with an exception\n");
+        sb.append("# TYPE appium_command_failures_total counter\n");
+        for (Key key : sorted.keySet()) {
+            AtomicLong failed = failures.get(key);
+            sb.append("appium_command_failures_total{").append(key.labels()).append("} ").append(failed != null ? failed.get() : 0).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Human-readable summary per command (all tests and pages merged), slowest total first.
+     */
+    public String report() {
+        Map<String, LatencyHistogram> byCommand = new TreeMap<>();
+        Map<String, Long> failedByCommand = new TreeMap<>();
+        for (Map.Entry<Key, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram merged = byCommand.computeIfAbsent(entry.getKey().command, k -> new LatencyHistogram());
+            merged.merge(entry.getValue());
+            AtomicLong failed = failures.get(entry.getKey());
+            failedByCommand.merge(entry.getKey().command, failed != null ? failed.get() : 0L, Long::sum);
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("Driver command latency report (ms)\n");
+        sb.append(String.format("%-44s %7s %7s %9s %9s %9s %9s %10s%n",
+                "command", "calls", "failed", "mean", "p50", "p95", "max", "total"));
+        double total = 0;
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(byCommand.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotalMillis()).reversed());
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            LatencyHistogram h = entry.getValue();
+            total += h.getTotalMillis();
+            sb.append(String.format("%-44s %7d %7d %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                    entry.getKey(),
+                    h.getCount(),
+                    failedByCommand.get(entry.getKey()),
+                    h.getMeanMillis(),
+                    h.getPercentileMillis(50),
+                    h.getPercentileMillis(95),
+                    h.getMaxMillis(),
+                    h.getTotalMillis()));
+        }
+        sb.append(String.format("Total time spent in driver commands: %.1f ms%n", total));
+        return sb.toString();
+    }
+
+    public void writePrometheus(Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, toPrometheus().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("⚠️ Failed to write command metrics: " + e.getMessage());
+        }
+    }
+
+    private static final class Key implements Comparable<Key> {
+        private final String command;
+        private final String test;
+        private final String page;
+
+        private Key(String command, String test, String page) {
+            this.command = command;
+            this.test = test;
+            this.page = page;
+        }
+
+        String labels() {
+            return "command=\"" + escape(command) + "\",test=\"" + escape(test) + "\",page=\"" + escape(page) + "\"";
+        }
+
+        private static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int result = command.compareTo(other.command);
+            if (result == 0) {
+                result = test.compareTo(other.test);
+            }
+            return result != 0 ? result : page.compareTo(other.page);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return command.equals(other.command) && test.equals(other.test) && page.equals(other.page);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(command, test, page);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mobile.test.driver;
+
+import com.mobile.test.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sürücü havuzundaki tek bir cihazın bağlantı ayarları
+ * Connection settings for a single device in the driver pool
+ */
+public class DeviceConfig {
+    private static final int BASE_SYSTEM_PORT = 8200;
+
+    private final String name;
+    private final String udid;
+    private final int systemPort;
+    private final String serverUrl;
+
+    public DeviceConfig(String name, String udid, int systemPort, String serverUrl) {
+        this.name = name;
+        this.udid = udid;
+        this.systemPort = systemPort;
+        this.serverUrl = serverUrl;
+    }
+
+    /**
+     * Reads the device list from the {@code devices} property. Every device gets its own
+     * UiAutomator2 system port so that parallel sessions do not collide on the host. A forked
+     * worker JVM only gets its own device (see {@link WorkerShard}).
+     */
+    public static List<DeviceConfig> fromConfig(ConfigManager config) {
+        String defaultServerUrl = config.getProperty("appium.server.url", "http://127.0.0.1:4723");
+        String deviceList = config.getProperty("devices", config.getProperty("device.name", "Medium_Phone_API_35"));
+
+        List<DeviceConfig> devices = new ArrayList<>();
+        int index = 0;
+        for (String rawName : deviceList.split(",")) {
+            String name = rawName.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            String prefix = "device." + name + ".";
+            devices.add(new DeviceConfig(
+                    name,
+                    config.getProperty(prefix + "udid", null),
+                    config.getIntProperty(prefix + "systemPort", BASE_SYSTEM_PORT + index),
+                    config.getProperty(prefix + "server.url", defaultServerUrl)));
+            index++;
+        }
+        if (devices.isEmpty()) {
+            throw new IllegalStateException("No devices configured. Set the 'devices' property.");
+        }
+        return WorkerShard.select(devices);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUdid() {
+        return udid;
+    }
+
+    public int getSystemPort() {
+        return systemPort;
+    }
+
+    public String getServerUrl() {
+        return serverUrl;
+    }
+
+    @Override
+    public String toString() {
+        return name + (udid != null ? " (" + udid + ")" : "") + " @ " + serverUrl;
+    }
+}
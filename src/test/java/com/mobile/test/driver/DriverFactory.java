@@ -0,0 +1,115 @@
+package com.mobile.test.driver;
+
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.helpers.LocatorProfiler;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.DesiredCapabilities;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Cihaz ayarlarından Appium oturumu oluşturur
+ * Creates Appium sessions from device settings
+ */
+public class DriverFactory {
+    private final ConfigManager config;
+    private final SessionKeeper keeper;
+
+    public DriverFactory(ConfigManager config) {
+        this.config = config;
+        this.keeper = SessionKeeper.fromConfig(config);
+    }
+
+    /**
+     * True when sessions outlive the suite ({@code session.keep=true}) and must not be quit.
+     */
+    public boolean keepsSessions() {
+        return keeper != null;
+    }
+
+    public DesiredCapabilities capabilitiesFor(DeviceConfig device) {
+        String appPath = System.getProperty("user.dir") + "/" + config.getProperty("app.path", "apps/sauce-demo-app.apk");
+
+        DesiredCapabilities capabilities = new DesiredCapabilities();
+        capabilities.setCapability("platformName", config.getProperty("platform.name", "Android"));
+        capabilities.setCapability("deviceName", device.getName());
+        if (device.getUdid() != null) {
+            capabilities.setCapability("udid", device.getUdid());
+        }
+        capabilities.setCapability("systemPort", device.getSystemPort());
+        capabilities.setCapability("app", appPath);
+        capabilities.setCapability("automationName", "UiAutomator2");
+        capabilities.setCapability("noReset", true);
+        capabilities.setCapability("autoGrantPermissions", true);
+        capabilities.setCapability("appWaitActivity", config.getAppActivity());
+        capabilities.setCapability("appPackage", config.getAppPackage());
+
+        // Uzun zaman aşımları
+        capabilities.setCapability("uiautomator2ServerInstallTimeout", 120000);
+        capabilities.setCapability("uiautomator2ServerLaunchTimeout", 120000);
+        if (keeper != null) {
+            // Sunucu çalıştırmalar arasında oturumu kapatmasın / Keep the server from reaping the session between runs
+            capabilities.setCapability("newCommandTimeout", keeper.getIdleSeconds());
+        }
+        return capabilities;
+    }
+
+    /**
+     * Opens a new session on the given device and brings the app to a clean foreground state.
+     */
+    public AndroidDriver create(DeviceConfig device) {
+        return create(device, true);
+    }
+
+    private AndroidDriver create(DeviceConfig device, boolean reuseKept) {
+        SessionKeeper.KeptSession kept = null;
+        try {
+            System.out.println("🔄 Appium sürücüsü başlatılıyor... / Starting Appium driver on " + device + "...");
+            ObservingCommandExecutor executor = new ObservingCommandExecutor(new URL(device.getServerUrl()));
+            if (Boolean.parseBoolean(config.getProperty("metrics.commands", "true"))) {
+                executor.addListener(CommandMetrics.getInstance());
+            }
+            kept = keeper != null && reuseKept ? keeper.find(device) : null;
+            if (kept != null) {
+                executor.attachTo(kept);
+            }
+            AndroidDriver driver = new AndroidDriver(executor, capabilitiesFor(device));
+            if (Boolean.parseBoolean(config.getProperty("locator.profile", "false"))) {
+                LocatorProfiler.attach(driver);
+            }
+
+            if (kept != null) {
+                // Sunucu ve uygulama zaten hazır; yalnızca ön plana getir / Server and app are already up; only bring the app forward
+                driver.activateApp(config.getAppPackage());
+                System.out.println("♻️ Mevcut Appium oturumuna bağlanıldı / Re-attached to kept session " + kept.getSessionId()
+                        + " on " + device.getName());
+                return driver;
+            }
+
+            // Uygulamayı temizle ve başlat
+            driver.terminateApp(config.getAppPackage());
+            driver.activateApp(config.getAppPackage());
+            if (keeper != null) {
+                keeper.save(device, driver);
+            }
+
+            System.out.println("✅ Appium driver started successfully on " + device.getName() + ". App launched.");
+            return driver;
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid Appium server URL for " + device.getName() + ": " + device.getServerUrl(), e);
+        } catch (NoSuchSessionException e) {
+            if (kept == null) {
+                throw e;
+            }
+            // Doğrulamadan sonra kapanmış; bir kez yeni oturum aç / Died after the liveness check; start over once with a fresh session
+            System.err.println("⚠️ Saklanan oturum kullanılamadı / Kept session unusable on " + device.getName() + ": " + e.getMessage());
+            keeper.forget(device);
+            return create(device, false);
+        } catch (Exception e) {
+            System.err.println("❌ Appium sürücüsü başlatılamadı / Failed to start Appium driver on " + device.getName() + ": " + e.getMessage());
+            throw new RuntimeException("Appium Sürücüsü başlatılamadı / Failed to initialize Appium Driver on " + device.getName() + ".", e);
+        }
+    }
+}
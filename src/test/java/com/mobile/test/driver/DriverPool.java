@@ -0,0 +1,232 @@
+package com.mobile.test.driver;
+
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.helpers.StartupTimeline;
+import com.mobile.test.pages.PageRegistry;
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paralel testler için iş parçacığına bağlı Appium oturum havuzu
+ * Pool of Appium sessions leased to test threads for parallel execution
+ *
+ * <p>A thread leases a session on first use and keeps it until {@link #release()} is called,
+ * so every {@code @BeforeMethod}/{@code @Test}/{@code @AfterMethod} triple of a test runs
+ * against the same device. Sessions are opened lazily, one per configured device, up to the
+ * configured pool size.</p>
+ */
+public final class DriverPool {
+    /** Log bağlamındaki cihaz anahtarı / Log context key carrying the leased device name */
+    public static final String DEVICE_KEY = "device";
+    private static final ThreadLocal<DriverSession> CURRENT = new ThreadLocal<>();
+    private static DriverPool instance;
+
+    private final DriverFactory factory;
+    private final Queue<DeviceConfig> unopened = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<DriverSession> idle = new LinkedBlockingQueue<>();
+    private final List<DriverSession> sessions = new CopyOnWriteArrayList<>();
+    private final long leaseTimeoutSeconds;
+    private final long startedAt = System.nanoTime();
+
+    DriverPool(DriverFactory factory, List<DeviceConfig> devices, int size, long leaseTimeoutSeconds) {
+        this.factory = factory;
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        int limit = Math.min(size, devices.size());
+        for (int i = 0; i < limit; i++) {
+            unopened.add(devices.get(i));
+        }
+    }
+
+    public static synchronized DriverPool getInstance() {
+        if (instance == null) {
+            ConfigManager config = ConfigManager.getInstance();
+            List<DeviceConfig> devices = DeviceConfig.fromConfig(config);
+            int size = configuredSize(config);
+            long leaseTimeout = config.getIntProperty("driver.pool.lease.timeout.seconds", 300);
+            instance = new DriverPool(new DriverFactory(config), devices, size, leaseTimeout);
+            System.out.println("🔄 Sürücü havuzu hazır / Driver pool ready: size=" + Math.min(size, devices.size())
+                    + ", devices=" + devices);
+        }
+        return instance;
+    }
+
+    /**
+     * Number of sessions the pool will open: {@code driver.pool.size}, capped at the device count.
+     */
+    public static int configuredSize(ConfigManager config) {
+        int devices = DeviceConfig.fromConfig(config).size();
+        return Math.min(config.getIntProperty("driver.pool.size", devices), devices);
+    }
+
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
+    /**
+     * Tüm oturumları aynı anda açar / Opens every configured session concurrently instead of on first lease
+     *
+     * <p>A device whose session fails to open goes back to the lazy queue, so the failure
+     * surfaces again in the first test that needs it.</p>
+     *
+     * @return completes when every session is open or has failed
+     */
+    public CompletableFuture<Void> warmUp(Executor executor, StartupTimeline timeline, String... dependsOn) {
+        List<CompletableFuture<Void>> opening = new ArrayList<>();
+        for (DeviceConfig device = unopened.poll(); device != null; device = unopened.poll()) {
+            DeviceConfig target = device;
+            opening.add(CompletableFuture.runAsync(() -> timeline.run("session " + target.getName(), () -> {
+                DriverSession session = new DriverSession(target, factory.create(target));
+                sessions.add(session);
+                idle.offer(session);
+            }, dependsOn), executor).exceptionally(e -> {
+                unopened.add(target);
+                System.err.println("⚠️ Oturum önceden açılamadı / Warm-up failed on " + target.getName() + ": " + e.getMessage());
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(opening.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Returns the session bound to the calling thread, leasing one from the pool if needed.
+     * Blocks while every session is busy.
+     */
+    public AndroidDriver lease() {
+        DriverSession session = CURRENT.get();
+        if (session != null) {
+            return session.getDriver();
+        }
+
+        session = idle.poll();
+        if (session == null) {
+            DeviceConfig device = unopened.poll();
+            if (device != null) {
+                session = new DriverSession(device, factory.create(device));
+                sessions.add(session);
+            }
+        }
+        if (session == null) {
+            try {
+                session = idle.poll(leaseTimeoutSeconds, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a driver session", e);
+            }
+            if (session == null) {
+                throw new IllegalStateException("No driver session became available within " + leaseTimeoutSeconds + "s");
+            }
+        }
+
+        session.markLeased();
+        CURRENT.set(session);
+        ThreadContext.put(DEVICE_KEY, session.getDevice().getName());
+        return session.getDriver();
+    }
+
+    /**
+     * Returns the calling thread's session to the pool. Safe to call when nothing is leased.
+     */
+    public void release() {
+        DriverSession session = CURRENT.get();
+        if (session == null) {
+            return;
+        }
+        CURRENT.remove();
+        ThreadContext.remove(DEVICE_KEY);
+        session.markReleased();
+        idle.offer(session);
+    }
+
+    /**
+     * Returns the driver bound to the calling thread without leasing, or null.
+     */
+    public AndroidDriver current() {
+        DriverSession session = CURRENT.get();
+        return session != null ? session.getDriver() : null;
+    }
+
+    public DriverSession currentSession() {
+        return CURRENT.get();
+    }
+
+    public List<DriverSession> getSessions() {
+        return new ArrayList<>(sessions);
+    }
+
+    /**
+     * Quits every open session (unless they are kept for the next run) and writes the throughput report.
+     * The per-session caches are dropped either way, since their values keep the drivers reachable.
+     */
+    public void shutdown() {
+        writeReport();
+        for (DriverSession session : sessions) {
+            PageSourceCache.remove(session.getDriver());
+            PageRegistry.remove(session.getDriver());
+            if (factory.keepsSessions()) {
+                System.out.println("♻️ Appium oturumu sonraki çalıştırma için açık bırakıldı / Session kept open for the next run on "
+                        + session.getDevice().getName());
+                continue;
+            }
+            try {
+                session.getDriver().quit();
+                System.out.println("❌ Appium session terminated on " + session.getDevice().getName());
+            } catch (Exception e) {
+                System.err.println("⚠️ Oturum kapatılırken hata oluştu / Error while terminating session on "
+                        + session.getDevice().getName() + ": " + e.getMessage());
+            }
+        }
+        sessions.clear();
+        idle.clear();
+        synchronized (DriverPool.class) {
+            instance = null;
+        }
+    }
+
+    public String report() {
+        double wallSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        int totalLeases = 0;
+        StringBuilder sb = new StringBuilder();
+        sb.append("Driver pool throughput report\n");
+        sb.append(String.format("%-28s %8s %12s %12s%n", "device", "tests", "busy (s)", "utilization"));
+        for (DriverSession session : sessions) {
+            double busySeconds = session.getBusyNanos() / 1_000_000_000.0;
+            totalLeases += session.getLeaseCount();
+            sb.append(String.format("%-28s %8d %12.1f %11.0f%%%n",
+                    session.getDevice().getName(),
+                    session.getLeaseCount(),
+                    busySeconds,
+                    wallSeconds > 0 ? busySeconds * 100 / wallSeconds : 0));
+        }
+        sb.append(String.format("sessions=%d, tests=%d, wall=%.1fs, throughput=%.2f tests/min%n",
+                sessions.size(), totalLeases, wallSeconds, wallSeconds > 0 ? totalLeases * 60 / wallSeconds : 0));
+        return sb.toString();
+    }
+
+    private void writeReport() {
+        String report = report();
+        System.out.println(report);
+        try {
+            Path target = WorkerShard.outputDir().resolve("driver-pool-report.txt");
+            Files.createDirectories(target.getParent());
+            Files.write(target, report.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("⚠️ Failed to write driver pool report: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.mobile.test.driver;
+
+import io.appium.java_client.android.AndroidDriver;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Havuzdaki bir Appium oturumu ve kullanım istatistikleri
+ * A pooled Appium session together with its usage statistics
+ */
+public class DriverSession {
+    private final DeviceConfig device;
+    private final AndroidDriver driver;
+    private final AtomicInteger leases = new AtomicInteger();
+    private final AtomicLong busyNanos = new AtomicLong();
+    private volatile long leasedAt;
+
+    DriverSession(DeviceConfig device, AndroidDriver driver) {
+        this.device = device;
+        this.driver = driver;
+    }
+
+    public DeviceConfig getDevice() {
+        return device;
+    }
+
+    public AndroidDriver getDriver() {
+        return driver;
+    }
+
+    public int getLeaseCount() {
+        return leases.get();
+    }
+
+    public long getBusyNanos() {
+        return busyNanos.get();
+    }
+
+    void markLeased() {
+        leasedAt = System.nanoTime();
+        leases.incrementAndGet();
+    }
+
+    void markReleased() {
+        busyNanos.addAndGet(System.nanoTime() - leasedAt);
+    }
+}
@@ -0,0 +1,93 @@
+package com.mobile.test.driver;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import io.appium.java_client.remote.AppiumW3CHttpCommandCodec;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Dialect;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.Response;
+
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Her komutu dinleyicilere bildiren Appium komut yürütücüsü
+ * Appium command executor that reports every command to registered listeners
+ */
+public class ObservingCommandExecutor extends AppiumCommandExecutor {
+    private final List<CommandListener> listeners = new CopyOnWriteArrayList<>();
+    private volatile SessionKeeper.KeptSession attachTo;
+
+    public ObservingCommandExecutor(URL serverUrl) {
+        super(MobileCommand.commandRepository, serverUrl);
+    }
+
+    public void addListener(CommandListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(CommandListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Var olan oturuma bağlanır / Makes the next new-session command attach to a live session
+     * instead of creating one on the server
+     */
+    public void attachTo(SessionKeeper.KeptSession session) {
+        this.attachTo = session;
+    }
+
+    @Override
+    public Response execute(Command command) throws WebDriverException {
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return send(command);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            for (CommandListener listener : listeners) {
+                try {
+                    listener.afterCommand(command, elapsed, failure);
+                } catch (RuntimeException e) {
+                    System.err.println("⚠️ Command listener failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends the command to the server; overridden by in-process fakes.
+     */
+    protected Response send(Command command) {
+        SessionKeeper.KeptSession session = attachTo;
+        if (session != null && DriverCommand.NEW_SESSION.equals(command.getName())) {
+            attachTo = null;
+            return attach(session);
+        }
+        return super.execute(command);
+    }
+
+    /**
+     * Sets up the W3C codecs the handshake would have chosen and answers with the kept
+     * session, so the driver talks to it as if it had just been created.
+     */
+    private Response attach(SessionKeeper.KeptSession session) {
+        setCommandCodec(new AppiumW3CHttpCommandCodec());
+        refreshAdditionalCommands();
+        setResponseCodec(Dialect.W3C.getResponseCodec());
+        Response response = new Response();
+        response.setSessionId(session.getSessionId());
+        response.setStatus(ErrorCodes.SUCCESS);
+        response.setState("success");
+        response.setValue(session.getCapabilities());
+        return response;
+    }
+}
@@ -0,0 +1,158 @@
+package com.mobile.test.driver;
+
+import com.mobile.test.config.ConfigManager;
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Appium oturumlarını Maven çalıştırmaları arasında canlı tutar
+ * Keeps Appium sessions alive across runs and re-attaches to them
+ *
+ * <p>Opt-in with {@code session.keep=true}. Each device's session id, server URL and session
+ * capabilities are written to {@code session.keep.dir/<device>.json}; the next run checks
+ * with the server that the session still answers and, if so, attaches to it instead of
+ * installing and launching UiAutomator2 again. Dead or mismatching sessions are forgotten and
+ * a fresh one is created. Kept sessions are not quit at the end of the suite, and are created
+ * with {@code newCommandTimeout} of {@code session.keep.idle.seconds} so the server does not
+ * reap them between runs.</p>
+ */
+public class SessionKeeper {
+    private static final Logger LOG = LogManager.getLogger(SessionKeeper.class);
+    private static final int PROBE_TIMEOUT_MILLIS = 3000;
+
+    private final Path dir;
+    private final int idleSeconds;
+    private final Json json = new Json();
+
+    SessionKeeper(Path dir, int idleSeconds) {
+        this.dir = dir;
+        this.idleSeconds = idleSeconds;
+    }
+
+    /**
+     * @return the configured keeper, or null when {@code session.keep} is off
+     */
+    public static SessionKeeper fromConfig(ConfigManager config) {
+        if (!Boolean.parseBoolean(config.getProperty("session.keep", "false"))) {
+            return null;
+        }
+        Path dir = Paths.get(config.getProperty("session.keep.dir", ".appium-sessions"));
+        return new SessionKeeper(dir.isAbsolute() ? dir : Paths.get(System.getProperty("user.dir")).resolve(dir),
+                config.getIntProperty("session.keep.idle.seconds", 3600));
+    }
+
+    public int getIdleSeconds() {
+        return idleSeconds;
+    }
+
+    /**
+     * A kept session for the device that is still alive on the same server, or null.
+     */
+    public KeptSession find(DeviceConfig device) {
+        Path file = fileFor(device);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            Map<String, Object> stored = json.toType(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+            String serverUrl = String.valueOf(stored.get("serverUrl"));
+            String sessionId = String.valueOf(stored.get("sessionId"));
+            @SuppressWarnings("unchecked")
+            Map<String, Object> capabilities = (Map<String, Object>) stored.get("capabilities");
+            if (!device.getServerUrl().equals(serverUrl) || capabilities == null) {
+                LOG.info("ℹ️ Saklanan oturum başka bir sunucuya ait / Kept session belongs to another server: {}", serverUrl);
+                forget(device);
+                return null;
+            }
+            if (!isAlive(serverUrl, sessionId)) {
+                LOG.info("ℹ️ Saklanan oturum artık yok / Kept session {} on {} is gone", sessionId, device.getName());
+                forget(device);
+                return null;
+            }
+            return new KeptSession(sessionId, capabilities);
+        } catch (IOException | JsonException | ClassCastException e) {
+            LOG.warn("⚠️ Saklanan oturum okunamadı / Could not read kept session {}: {}", file, e.getMessage());
+            forget(device);
+            return null;
+        }
+    }
+
+    public void save(DeviceConfig device, AndroidDriver driver) {
+        Map<String, Object> stored = new HashMap<>();
+        stored.put("serverUrl", device.getServerUrl());
+        stored.put("sessionId", driver.getSessionId().toString());
+        stored.put("capabilities", driver.getCapabilities().asMap());
+        try {
+            Files.createDirectories(dir);
+            Files.write(fileFor(device), json.toJson(stored).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | JsonException e) {
+            LOG.warn("⚠️ Oturum kaydedilemedi / Could not save the session of {}: {}", device.getName(), e.getMessage());
+        }
+    }
+
+    public void forget(DeviceConfig device) {
+        try {
+            Files.deleteIfExists(fileFor(device));
+        } catch (IOException e) {
+            LOG.warn("⚠️ Saklanan oturum silinemedi / Could not delete the kept session of {}: {}", device.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * One cheap read-only call on the session; any non-200 answer means it is gone.
+     */
+    static boolean isAlive(String serverUrl, String sessionId) {
+        HttpURLConnection connection = null;
+        try {
+            String base = serverUrl.endsWith("/") ? serverUrl.substring(0, serverUrl.length() - 1) : serverUrl;
+            connection = (HttpURLConnection) new URL(base + "/session/" + sessionId + "/timeouts").openConnection();
+            connection.setConnectTimeout(PROBE_TIMEOUT_MILLIS);
+            connection.setReadTimeout(PROBE_TIMEOUT_MILLIS);
+            return connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (connection != null) {
+                connection.disconnect();
+            }
+        }
+    }
+
+    private Path fileFor(DeviceConfig device) {
+        return dir.resolve(device.getName().replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    /**
+     * Id and capabilities of a live session to attach to.
+     */
+    public static final class KeptSession {
+        private final String sessionId;
+        private final Map<String, Object> capabilities;
+
+        KeptSession(String sessionId, Map<String, Object> capabilities) {
+            this.sessionId = sessionId;
+            this.capabilities = capabilities;
+        }
+
+        public String getSessionId() {
+            return sessionId;
+        }
+
+        public Map<String, Object> getCapabilities() {
+            return capabilities;
+        }
+    }
+}
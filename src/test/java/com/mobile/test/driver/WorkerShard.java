@@ -0,0 +1,67 @@
+package com.mobile.test.driver;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Çatallanmış test JVM'inin kimliği ve çıktı dizini
+ * Identity and output directory of a forked worker JVM ({@code -Pforked})
+ *
+ * <p>Failsafe starts one JVM per device and passes its 1-based fork number as
+ * {@code worker.index}. The worker keeps only its own device from the {@code devices} list
+ * and writes its reports under {@code target/workers/worker-N/}, so no two JVMs share a
+ * device, a session or an output file. Without {@code worker.index} the run is a single JVM
+ * and everything behaves as before.</p>
+ */
+public final class WorkerShard {
+    public static final String INDEX_PROPERTY = "worker.index";
+
+    private WorkerShard() {
+    }
+
+    /**
+     * True when running inside a forked worker JVM.
+     */
+    public static boolean isWorker() {
+        return index() > 0;
+    }
+
+    /**
+     * 1-based worker number, or 0 outside a forked run.
+     */
+    public static int index() {
+        String value = System.getProperty(INDEX_PROPERTY);
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for '" + INDEX_PROPERTY + "': " + value, e);
+        }
+    }
+
+    /**
+     * Directory for this JVM's reports: {@code target/} or {@code target/workers/worker-N/}.
+     */
+    public static Path outputDir() {
+        Path target = Paths.get(System.getProperty("user.dir"), "target");
+        return isWorker() ? target.resolve("workers").resolve("worker-" + index()) : target;
+    }
+
+    /**
+     * Bu işçinin cihazını seçer / Picks this worker's device; a single JVM keeps them all
+     */
+    static <T> List<T> select(List<T> devices) {
+        if (!isWorker()) {
+            return devices;
+        }
+        if (index() > devices.size()) {
+            System.err.println("⚠️ İşçi sayısı cihaz sayısını aşıyor / More workers than devices: worker " + index()
+                    + " shares a device with worker " + ((index() - 1) % devices.size() + 1));
+        }
+        return Collections.singletonList(devices.get((index() - 1) % devices.size()));
+    }
+}
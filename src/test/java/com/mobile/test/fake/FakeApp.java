@@ -0,0 +1,394 @@
+package com.mobile.test.fake;
+
+import com.mobile.test.helpers.LocatorXPath;
+import com.mobile.test.helpers.PageSourceSnapshot;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Komutları betiklenmiş bir UI durumuna karşı yanıtlayan sahte uygulama
+ * Fake app that answers WebDriver/Appium commands against a scripted UI state
+ *
+ * <p>The UI is the page-source XML returned by {@link #render()}; element lookups are
+ * evaluated against it exactly as the real page source would be. Subclasses script the app by
+ * reacting to clicks, typed text, deep links and launches and calling {@link #changed()} when
+ * the screen changes, which also makes element references from the previous screen stale.</p>
+ *
+ * <p>Latency can be injected for all commands or per command name, so timing-sensitive code
+ * (waits, caches, parallel runs) can be measured without a device.</p>
+ */
+public abstract class FakeApp implements Function<Command, Object> {
+    public static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+
+    private static final Pattern BOUNDS = Pattern.compile("\\[(-?\\d+),(-?\\d+)\\]\\[(-?\\d+),(-?\\d+)\\]");
+
+    private final Map<String, Duration> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong commands = new AtomicLong();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile byte[] screenshot;
+
+    private PageSourceSnapshot snapshot;
+    private Map<Element, Integer> indexes;
+    private long generation;
+    private boolean running = true;
+
+    /**
+     * Page source of the current screen.
+     */
+    protected abstract String render();
+
+    /** Called when an element is clicked */
+    protected abstract void onClick(Element element);
+
+    /** Called with the complete new value of a text field */
+    protected void onType(Element element, String text) {
+    }
+
+    /** Called for {@code mobile: deepLink} */
+    protected void onDeepLink(String url) {
+        throw new UnsupportedCommandException("Deep link not supported: " + url);
+    }
+
+    /** Called when the app is (re)launched or its data is cleared */
+    protected void onLaunch(boolean clearData) {
+    }
+
+    /** Called for W3C actions (swipes, taps) */
+    protected void onGesture() {
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void setLatency(String commandName, Duration latency) {
+        latencies.put(commandName, latency);
+    }
+
+    public long getCommandCount() {
+        return commands.get();
+    }
+
+    /**
+     * Marks the screen as changed; element references handed out before become stale.
+     */
+    protected final synchronized void changed() {
+        snapshot = null;
+        indexes = null;
+        generation++;
+    }
+
+    /**
+     * Re-renders the screen without invalidating element references, e.g. after typing.
+     */
+    protected final synchronized void redraw() {
+        snapshot = null;
+        indexes = null;
+    }
+
+    protected final synchronized boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public Object apply(Command command) {
+        commands.incrementAndGet();
+        sleep(latencies.getOrDefault(command.getName(), latency));
+        synchronized (this) {
+            return handle(command.getName(), command.getParameters());
+        }
+    }
+
+    private Object handle(String name, Map<String, ?> parameters) {
+        switch (name) {
+            case DriverCommand.FIND_ELEMENT:
+                return reference(first(find(null, parameters), parameters));
+            case DriverCommand.FIND_ELEMENTS:
+                return references(find(null, parameters));
+            case DriverCommand.FIND_CHILD_ELEMENT:
+                return reference(first(find(element(parameters), parameters), parameters));
+            case DriverCommand.FIND_CHILD_ELEMENTS:
+                return references(find(element(parameters), parameters));
+            case DriverCommand.GET_ELEMENT_TEXT:
+                return element(parameters).getAttribute("text");
+            case DriverCommand.GET_ELEMENT_TAG_NAME:
+                return element(parameters).getAttribute("class");
+            case DriverCommand.GET_ELEMENT_ATTRIBUTE:
+            case DriverCommand.GET_ELEMENT_DOM_PROPERTY:
+                return attribute(element(parameters), String.valueOf(parameters.get("name")));
+            case DriverCommand.IS_ELEMENT_DISPLAYED:
+                return flag(element(parameters), "displayed");
+            case DriverCommand.IS_ELEMENT_ENABLED:
+                return flag(element(parameters), "enabled");
+            case DriverCommand.IS_ELEMENT_SELECTED:
+                return Boolean.parseBoolean(element(parameters).getAttribute("selected"));
+            case DriverCommand.GET_ELEMENT_RECT:
+            case DriverCommand.GET_ELEMENT_LOCATION:
+            case DriverCommand.GET_ELEMENT_SIZE:
+                return rect(element(parameters));
+            case DriverCommand.CLICK_ELEMENT:
+                onClick(element(parameters));
+                return null;
+            case DriverCommand.CLEAR_ELEMENT:
+                onType(element(parameters), "");
+                return null;
+            case DriverCommand.SEND_KEYS_TO_ELEMENT: {
+                Element element = element(parameters);
+                onType(element, element.getAttribute("text") + keys(parameters.get("value")));
+                return null;
+            }
+            case DriverCommand.GET_PAGE_SOURCE:
+                return snapshot().getXml();
+            case DriverCommand.SCREENSHOT:
+            case DriverCommand.ELEMENT_SCREENSHOT:
+                return Base64.getEncoder().encodeToString(getScreenshotPng());
+            case DriverCommand.ACTIONS:
+                onGesture();
+                return null;
+            case DriverCommand.CLEAR_ACTIONS_STATE:
+            case DriverCommand.SET_TIMEOUT:
+            // MobileCommand adları korumalı / MobileCommand names are protected, so Appium commands use their wire names
+            case "hideKeyboard":
+                return null;
+            case DriverCommand.GET_TIMEOUTS:
+                return map("implicit", 0L, "pageLoad", 300000L, "script", 30000L);
+            case DriverCommand.GET_CURRENT_WINDOW_SIZE:
+                return map("x", 0L, "y", 0L, "width", 1080L, "height", 2400L);
+            case DriverCommand.STATUS:
+                return map("ready", true, "message", "fake app");
+            case "isKeyboardShown":
+                return false;
+            case "activateApp":
+                if (!running) {
+                    running = true;
+                    onLaunch(false);
+                    changed();
+                }
+                return null;
+            case "terminateApp": {
+                boolean wasRunning = running;
+                running = false;
+                changed();
+                return wasRunning;
+            }
+            case "queryAppState":
+                return running ? 4L : 1L;
+            case DriverCommand.EXECUTE_SCRIPT:
+                return script(String.valueOf(parameters.get("script")), parameters.get("args"));
+            default:
+                throw new UnsupportedCommandException(name + " is not supported by the fake app");
+        }
+    }
+
+    private Object script(String script, Object args) {
+        Map<?, ?> arguments = args instanceof List && !((List<?>) args).isEmpty() && ((List<?>) args).get(0) instanceof Map
+                ? (Map<?, ?>) ((List<?>) args).get(0) : new HashMap<>();
+        switch (script) {
+            case "mobile: deepLink":
+                running = true;
+                onDeepLink(String.valueOf(arguments.get("url")));
+                changed();
+                return null;
+            case "mobile: clearApp":
+                running = false;
+                onLaunch(true);
+                changed();
+                return true;
+            case "mobile: replaceElementValue": {
+                Element element = element(String.valueOf(arguments.get("elementId")));
+                onType(element, String.valueOf(arguments.get("text")));
+                return null;
+            }
+            case "mobile: scrollGesture":
+            case "mobile: swipeGesture":
+                onGesture();
+                return false;
+            default:
+                throw new UnsupportedCommandException("Script not supported by the fake app: " + script);
+        }
+    }
+
+    /**
+     * Current screen, re-rendered after every {@link #changed()}.
+     */
+    public final synchronized PageSourceSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = PageSourceSnapshot.parse(render());
+            indexes = new IdentityHashMap<>();
+            List<Element> elements = snapshot.getElements();
+            for (int i = 0; i < elements.size(); i++) {
+                indexes.put(elements.get(i), i);
+            }
+        }
+        return snapshot;
+    }
+
+    private List<Element> find(Element context, Map<String, ?> parameters) {
+        String using = String.valueOf(parameters.get("using"));
+        String value = String.valueOf(parameters.get("value"));
+        if (context == null && "-android uiautomator".equals(using) && value.contains("UiScrollable")) {
+            // UiScrollable arama sırasında kaydırır / UiScrollable scrolls the container while it searches
+            onGesture();
+        }
+        PageSourceSnapshot current = snapshot();
+        List<Element> matches = new ArrayList<>();
+        if (context == null && "accessibility id".equals(using)) {
+            matches.addAll(current.withContentDesc(value));
+            return matches;
+        }
+        String xpath = LocatorXPath.of(using, value);
+        if (context != null && xpath.startsWith("/")) {
+            xpath = "." + xpath;
+        }
+        NodeList nodes = context != null ? current.evaluate(context, xpath) : current.evaluate(xpath);
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element) {
+                matches.add((Element) node);
+            }
+        }
+        return matches;
+    }
+
+    private static Element first(List<Element> matches, Map<String, ?> parameters) {
+        if (matches.isEmpty()) {
+            throw new NoSuchElementException("No element found using " + parameters.get("using") + "=" + parameters.get("value"));
+        }
+        return matches.get(0);
+    }
+
+    private Map<String, Object> reference(Element element) {
+        String id = generation + "-" + indexes.get(element);
+        return map(ELEMENT_KEY, id, "ELEMENT", id);
+    }
+
+    private List<Map<String, Object>> references(Collection<Element> elements) {
+        List<Map<String, Object>> references = new ArrayList<>();
+        for (Element element : elements) {
+            references.add(reference(element));
+        }
+        return references;
+    }
+
+    private Element element(Map<String, ?> parameters) {
+        return element(String.valueOf(parameters.get("id")));
+    }
+
+    private Element element(String id) {
+        int separator = id.indexOf('-');
+        if (separator < 0 || !String.valueOf(generation).equals(id.substring(0, separator))) {
+            throw new StaleElementReferenceException("Element " + id + " is no longer attached to the screen");
+        }
+        return snapshot().getElements().get(Integer.parseInt(id.substring(separator + 1)));
+    }
+
+    private static Object attribute(Element element, String name) {
+        String attribute = "contentDescription".equals(name) || "content-desc".equals(name) ? "content-desc"
+                : "resourceId".equals(name) ? "resource-id" : name;
+        return element.hasAttribute(attribute) ? element.getAttribute(attribute) : null;
+    }
+
+    private static boolean flag(Element element, String name) {
+        return !element.hasAttribute(name) || Boolean.parseBoolean(element.getAttribute(name));
+    }
+
+    private static Map<String, Object> rect(Element element) {
+        Matcher matcher = BOUNDS.matcher(element.getAttribute("bounds"));
+        if (!matcher.matches()) {
+            return map("x", 0L, "y", 0L, "width", 0L, "height", 0L);
+        }
+        long x1 = Long.parseLong(matcher.group(1));
+        long y1 = Long.parseLong(matcher.group(2));
+        return map("x", x1, "y", y1,
+                "width", Long.parseLong(matcher.group(3)) - x1,
+                "height", Long.parseLong(matcher.group(4)) - y1);
+    }
+
+    private static String keys(Object value) {
+        StringBuilder text = new StringBuilder();
+        if (value instanceof Object[]) {
+            for (Object key : (Object[]) value) {
+                text.append(key);
+            }
+        } else if (value instanceof Collection) {
+            for (Object key : (Collection<?>) value) {
+                text.append(key);
+            }
+        } else if (value != null) {
+            text.append(value);
+        }
+        return text.toString();
+    }
+
+    private static Map<String, Object> map(Object... keysAndValues) {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    /**
+     * A phone-sized PNG, generated once; big enough to make encoding costs realistic.
+     */
+    public byte[] getScreenshotPng() {
+        if (screenshot == null) {
+            BufferedImage image = new BufferedImage(1080, 2400, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = image.createGraphics();
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, 1080, 2400);
+            for (int row = 0; row < 12; row++) {
+                graphics.setColor(new Color(40 + row * 15, 90, 200 - row * 10));
+                graphics.fillRoundRect(40, 120 + row * 190, 1000, 160, 24, 24);
+                graphics.setColor(Color.WHITE);
+                graphics.drawString("Sauce Labs item " + row, 80, 200 + row * 190);
+            }
+            graphics.dispose();
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(image, "png", out);
+                screenshot = out.toByteArray();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not encode fake screenshot", e);
+            }
+        }
+        return screenshot;
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.getNano() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
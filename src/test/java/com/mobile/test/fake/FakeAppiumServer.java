@@ -0,0 +1,344 @@
+package com.mobile.test.fake;
+
+import com.mobile.test.config.ConfigManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.SessionId;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Cihaz yerine sahte uygulamaları HTTP üzerinden sunan yerel Appium sunucusu
+ * Local stand-in for the Appium server that serves fake apps over the W3C WebDriver protocol
+ *
+ * <p>Every new session gets its own {@link FakeApp} from the factory, so parallel sessions do
+ * not share UI state. Only the endpoints the framework uses are routed (elements, clicks, keys,
+ * page source, screenshots, actions, scripts and app management); anything else is answered
+ * with {@code unknown command}. Because the driver talks to it over real HTTP, the full client
+ * stack (codec, JSON, connection pool) is part of every measurement.</p>
+ *
+ * <p>Enabled for the suite with {@code fake.server=true}; see {@link #fromConfig}. Can also be
+ * started on its own: {@code FakeAppiumServer [port] [latencyMillis]}.</p>
+ */
+public class FakeAppiumServer {
+    private static final Json JSON = new Json();
+    private static final List<Route> ROUTES = new ArrayList<>();
+
+    static {
+        route("GET", "/status", DriverCommand.STATUS);
+        route("POST", "/session", DriverCommand.NEW_SESSION);
+        route("DELETE", "/session/:sessionId", DriverCommand.QUIT);
+        route("POST", "/session/:sessionId/element", DriverCommand.FIND_ELEMENT);
+        route("POST", "/session/:sessionId/elements", DriverCommand.FIND_ELEMENTS);
+        route("POST", "/session/:sessionId/element/:id/element", DriverCommand.FIND_CHILD_ELEMENT);
+        route("POST", "/session/:sessionId/element/:id/elements", DriverCommand.FIND_CHILD_ELEMENTS);
+        route("GET", "/session/:sessionId/element/:id/text", DriverCommand.GET_ELEMENT_TEXT);
+        route("GET", "/session/:sessionId/element/:id/name", DriverCommand.GET_ELEMENT_TAG_NAME);
+        route("GET", "/session/:sessionId/element/:id/attribute/:name", DriverCommand.GET_ELEMENT_ATTRIBUTE);
+        route("GET", "/session/:sessionId/element/:id/property/:name", DriverCommand.GET_ELEMENT_DOM_PROPERTY);
+        route("GET", "/session/:sessionId/element/:id/displayed", DriverCommand.IS_ELEMENT_DISPLAYED);
+        route("GET", "/session/:sessionId/element/:id/enabled", DriverCommand.IS_ELEMENT_ENABLED);
+        route("GET", "/session/:sessionId/element/:id/selected", DriverCommand.IS_ELEMENT_SELECTED);
+        route("GET", "/session/:sessionId/element/:id/rect", DriverCommand.GET_ELEMENT_RECT);
+        route("GET", "/session/:sessionId/element/:id/screenshot", DriverCommand.ELEMENT_SCREENSHOT);
+        route("POST", "/session/:sessionId/element/:id/click", DriverCommand.CLICK_ELEMENT);
+        route("POST", "/session/:sessionId/element/:id/clear", DriverCommand.CLEAR_ELEMENT);
+        route("POST", "/session/:sessionId/element/:id/value", DriverCommand.SEND_KEYS_TO_ELEMENT);
+        route("GET", "/session/:sessionId/source", DriverCommand.GET_PAGE_SOURCE);
+        route("GET", "/session/:sessionId/screenshot", DriverCommand.SCREENSHOT);
+        route("POST", "/session/:sessionId/actions", DriverCommand.ACTIONS);
+        route("DELETE", "/session/:sessionId/actions", DriverCommand.CLEAR_ACTIONS_STATE);
+        route("GET", "/session/:sessionId/timeouts", DriverCommand.GET_TIMEOUTS);
+        route("POST", "/session/:sessionId/timeouts", DriverCommand.SET_TIMEOUT);
+        route("GET", "/session/:sessionId/window/rect", DriverCommand.GET_CURRENT_WINDOW_SIZE);
+        route("POST", "/session/:sessionId/execute/sync", DriverCommand.EXECUTE_SCRIPT);
+        // MobileCommand adları korumalı / MobileCommand names are protected, so Appium commands use their wire names
+        route("POST", "/session/:sessionId/appium/device/activate_app", "activateApp");
+        route("POST", "/session/:sessionId/appium/device/terminate_app", "terminateApp");
+        route("POST", "/session/:sessionId/appium/device/app_state", "queryAppState");
+        route("POST", "/session/:sessionId/appium/device/hide_keyboard", "hideKeyboard");
+        route("GET", "/session/:sessionId/appium/device/is_keyboard_shown", "isKeyboardShown");
+    }
+
+    private final Supplier<? extends FakeApp> appFactory;
+    private final Map<String, FakeApp> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FakeAppiumServer(Supplier<? extends FakeApp> appFactory) {
+        this.appFactory = appFactory;
+    }
+
+    /**
+     * Sahte sunucuyu yapılandırmaya göre oluşturur; kapalıysa null döner
+     * Creates the server from {@code fake.server}, {@code fake.server.port} (0 picks a free port)
+     * and {@code fake.server.latency.ms}; returns null when the fake server is disabled
+     */
+    public static FakeAppiumServer fromConfig(ConfigManager config) {
+        if (!Boolean.parseBoolean(config.getProperty("fake.server", "false"))) {
+            return null;
+        }
+        FakeAppiumServer server = new FakeAppiumServer(swagLabs(config.getIntProperty("fake.server.latency.ms", 0)));
+        server.start(config.getIntProperty("fake.server.port", 0));
+        return server;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 4723;
+        long latencyMillis = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        FakeAppiumServer server = new FakeAppiumServer(swagLabs(latencyMillis));
+        server.start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        // Request threads are daemons; keep the JVM alive until it is interrupted
+        Thread.currentThread().join();
+    }
+
+    private static Supplier<SwagLabsFakeApp> swagLabs(long latencyMillis) {
+        return () -> {
+            SwagLabsFakeApp app = new SwagLabsFakeApp();
+            app.setLatency(Duration.ofMillis(latencyMillis));
+            return app;
+        };
+    }
+
+    public synchronized void start(int port) {
+        if (server != null) {
+            throw new IllegalStateException("Fake Appium server is already running on " + getUrl());
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start the fake Appium server on port " + port, e);
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-appium-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        System.out.println("🧪 Sahte Appium sunucusu başladı / Fake Appium server listening on " + getUrl());
+    }
+
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        System.out.println("🧪 Sahte Appium sunucusu durdu / Fake Appium server stopped after "
+                + sessionCount.get() + " session(s)");
+    }
+
+    public synchronized String getUrl() {
+        if (server == null) {
+            throw new IllegalStateException("Fake Appium server is not running");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * The app behind an open session, e.g. to inject latency or inspect the cart from a test.
+     */
+    public FakeApp getApp(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public int getOpenSessionCount() {
+        return sessions.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath().replaceAll("/+$", "").replaceFirst("^/wd/hub", "");
+            Map<String, Object> parameters = new HashMap<>();
+            Route route = match(exchange.getRequestMethod(), path, parameters);
+            if (route == null) {
+                throw new UnsupportedCommandException(exchange.getRequestMethod() + " " + path + " is not supported by the fake server");
+            }
+            parameters.putAll(readBody(exchange));
+            respond(exchange, 200, value(dispatch(route.command, parameters)));
+        } catch (RuntimeException e) {
+            respond(exchange, httpStatus(e), error(e));
+        }
+    }
+
+    private Object dispatch(String command, Map<String, Object> parameters) {
+        String sessionId = (String) parameters.remove("sessionId");
+        switch (command) {
+            case DriverCommand.STATUS:
+                return map("ready", true, "message", "fake Appium server");
+            case DriverCommand.NEW_SESSION:
+                return newSession(parameters);
+            case DriverCommand.QUIT:
+                sessions.remove(sessionId);
+                return null;
+            default:
+                FakeApp app = sessions.get(sessionId);
+                if (app == null) {
+                    throw new NoSuchSessionException("Session " + sessionId + " does not exist");
+                }
+                return app.apply(new Command(new SessionId(sessionId), command, parameters));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> newSession(Map<String, Object> parameters) {
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        Object requested = parameters.get("capabilities");
+        if (requested instanceof Map && ((Map<String, Object>) requested).get("alwaysMatch") instanceof Map) {
+            capabilities.putAll((Map<String, Object>) ((Map<String, Object>) requested).get("alwaysMatch"));
+        }
+        capabilities.putIfAbsent("platformName", "Android");
+        capabilities.putIfAbsent("appium:automationName", "UiAutomator2");
+
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, appFactory.get());
+        sessionCount.incrementAndGet();
+        return map("sessionId", sessionId, "capabilities", capabilities);
+    }
+
+    private static Route match(String method, String path, Map<String, Object> variables) {
+        String[] segments = path.split("/");
+        for (Route route : ROUTES) {
+            if (route.method.equals(method) && route.segments.length == segments.length) {
+                Map<String, Object> candidate = new HashMap<>();
+                boolean matches = true;
+                for (int i = 0; i < segments.length && matches; i++) {
+                    if (route.segments[i].startsWith(":")) {
+                        candidate.put(route.segments[i].substring(1), segments[i]);
+                    } else {
+                        matches = route.segments[i].equals(segments[i]);
+                    }
+                }
+                if (matches) {
+                    variables.putAll(candidate);
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (body.isEmpty()) {
+                return new HashMap<>();
+            }
+            try {
+                return JSON.toType(body, Json.MAP_TYPE);
+            } catch (RuntimeException e) {
+                throw new InvalidArgumentException("Request body is not a JSON object: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        byte[] bytes = JSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, Object> value(Object value) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("value", value);
+        return body;
+    }
+
+    /**
+     * W3C error body; the client maps {@code error} back to the matching Selenium exception.
+     */
+    private static Map<String, Object> error(RuntimeException e) {
+        return value(map("error", errorCode(e), "message", String.valueOf(e.getMessage()), "stacktrace", ""));
+    }
+
+    private static String errorCode(RuntimeException e) {
+        if (e instanceof NoSuchElementException) {
+            return "no such element";
+        } else if (e instanceof StaleElementReferenceException) {
+            return "stale element reference";
+        } else if (e instanceof InvalidSelectorException) {
+            return "invalid selector";
+        } else if (e instanceof InvalidArgumentException || e instanceof IllegalArgumentException) {
+            return "invalid argument";
+        } else if (e instanceof NoSuchSessionException) {
+            return "invalid session id";
+        } else if (e instanceof UnsupportedCommandException) {
+            return "unknown command";
+        }
+        return "unknown error";
+    }
+
+    private static int httpStatus(RuntimeException e) {
+        switch (errorCode(e)) {
+            case "no such element":
+            case "stale element reference":
+            case "invalid session id":
+            case "unknown command":
+                return 404;
+            case "invalid selector":
+            case "invalid argument":
+                return 400;
+            default:
+                return 500;
+        }
+    }
+
+    private static Map<String, Object> map(Object... keysAndValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static void route(String method, String template, String command) {
+        ROUTES.add(new Route(method, template, command));
+    }
+
+    private static final class Route {
+        private final String method;
+        private final String[] segments;
+        private final String command;
+
+        private Route(String method, String template, String command) {
+            this.method = method;
+            this.segments = template.split("/");
+            this.command = command;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.mobile.test.fake;
+
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.driver.DeviceConfig;
+import com.mobile.test.driver.DriverFactory;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.pages.CartPage;
+import com.mobile.test.pages.CheckoutPage;
+import com.mobile.test.pages.LoginPage;
+import com.mobile.test.pages.PageRegistry;
+import com.mobile.test.pages.ProductsPage;
+import io.appium.java_client.android.AndroidDriver;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Sayfa nesnelerini sahte Appium sunucusuna karşı uçtan uca çalıştırır
+ * Drives the real page objects end to end against {@link FakeAppiumServer}, no device needed
+ *
+ * <p>The session is opened by {@link DriverFactory} over HTTP, so the observing executor, the
+ * page-source and element caches and the page registry are the ones a device run uses. Runs
+ * with {@code mvn test -Pfake}.</p>
+ */
+@Epic("Sauce Demo Tests")
+@Feature("Fake server flows")
+public class FakeServerFlowTest {
+    private FakeAppiumServer server;
+    private AndroidDriver driver;
+    private PageRegistry pages;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() {
+        server = new FakeAppiumServer(SwagLabsFakeApp::new);
+        server.start(0);
+        driver = new DriverFactory(ConfigManager.getInstance())
+                .create(new DeviceConfig("fake-device", null, 8200, server.getUrl()));
+        pages = PageRegistry.of(driver);
+    }
+
+    /**
+     * Her test giriş ekranından başlar / Every test starts from a cold launch on the login screen
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void restartApp() {
+        String appPackage = ConfigManager.getInstance().getAppPackage();
+        driver.terminateApp(appPackage);
+        driver.activateApp(appPackage);
+    }
+
+    @Test(description = "Geçerli kullanıcı ile giriş / Login with a valid user")
+    public void loginTest() {
+        pages.get(LoginPage.class).login(SwagLabsFakeApp.STANDARD_USER, SwagLabsFakeApp.PASSWORD);
+
+        Assert.assertTrue(pages.get(ProductsPage.class).isOnProductsPage(), "Products page was not shown after login");
+        Assert.assertEquals(app().getScreen(), SwagLabsFakeApp.Screen.PRODUCTS);
+    }
+
+    @Test(description = "Kullanıcı adı olmadan giriş / Login without a username shows the validation error")
+    public void loginWithoutUsernameTest() {
+        LoginPage loginPage = pages.get(LoginPage.class);
+        loginPage.login("", SwagLabsFakeApp.PASSWORD);
+
+        Assert.assertTrue(loginPage.isErrorMessageDisplayed(), "Validation error was not shown");
+        Assert.assertEquals(app().getScreen(), SwagLabsFakeApp.Screen.LOGIN);
+    }
+
+    @Test(description = "Sepetten sipariş tamamlama / Complete an order from the cart")
+    public void checkoutTest() {
+        pages.get(LoginPage.class).login(SwagLabsFakeApp.STANDARD_USER, SwagLabsFakeApp.PASSWORD);
+        ProductsPage productsPage = pages.get(ProductsPage.class);
+        Assert.assertTrue(productsPage.isOnProductsPage(), "Products page was not shown after login");
+        productsPage.addFirstProductToCart();
+        productsPage.goToCart();
+
+        CartPage cartPage = pages.get(CartPage.class);
+        Assert.assertTrue(cartPage.isProductInCart(), "Added product is not in the cart");
+        cartPage.checkout();
+
+        CheckoutPage checkoutPage = pages.get(CheckoutPage.class);
+        checkoutPage.enterInfo("Selman", "Karatas", "34000");
+        checkoutPage.continueToOverview();
+        checkoutPage.finishOrder();
+
+        Assert.assertTrue(checkoutPage.isOrderComplete(), "Order was not completed");
+        Assert.assertEquals(app().getScreen(), SwagLabsFakeApp.Screen.COMPLETE);
+        Assert.assertTrue(app().getCart().isEmpty(), "Cart was not emptied by the order");
+    }
+
+    @Test(description = "Eksik bilgi ile ödeme / Checkout with missing information is rejected")
+    public void checkoutWithMissingInfoTest() {
+        pages.get(LoginPage.class).login(SwagLabsFakeApp.STANDARD_USER, SwagLabsFakeApp.PASSWORD);
+        ProductsPage productsPage = pages.get(ProductsPage.class);
+        Assert.assertTrue(productsPage.isOnProductsPage(), "Products page was not shown after login");
+        productsPage.addFirstProductToCart();
+        productsPage.goToCart();
+        pages.get(CartPage.class).checkout();
+
+        CheckoutPage checkoutPage = pages.get(CheckoutPage.class);
+        checkoutPage.enterInfo("", "", "");
+        Assert.assertThrows(IllegalStateException.class, checkoutPage::continueToOverview);
+        Assert.assertTrue(checkoutPage.isErrorMessageDisplayed(), "Validation error was not shown");
+        Assert.assertTrue(checkoutPage.isOnCheckoutInfoPage(), "Left the checkout information page");
+        Assert.assertEquals(app().getScreen(), SwagLabsFakeApp.Screen.CHECKOUT_INFO);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        if (driver != null) {
+            PageSourceCache.remove(driver);
+            PageRegistry.remove(driver);
+            driver.quit();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    private SwagLabsFakeApp app() {
+        return (SwagLabsFakeApp) server.getApp(driver.getSessionId().toString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.mobile.test.fake;
+
+import com.mobile.test.driver.ObservingCommandExecutor;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.Response;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Sunucuya gitmeden komutları yanıtlayan sahte yürütücü
+ * Command executor that answers commands in-process, without an Appium server
+ *
+ * <p>Session creation and quit are handled here; every other command is passed to the
+ * responder, whose return value becomes the response value. Listeners registered on the
+ * {@link ObservingCommandExecutor} still see every command, so caches and metrics behave as
+ * they do against a device.</p>
+ */
+public class InProcessCommandExecutor extends ObservingCommandExecutor {
+    private static final URL LOCAL_URL;
+
+    static {
+        try {
+            LOCAL_URL = new URL("http://127.0.0.1:0");
+        } catch (MalformedURLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Function<Command, Object> responder;
+
+    public InProcessCommandExecutor(Function<Command, Object> responder) {
+        super(LOCAL_URL);
+        this.responder = responder;
+    }
+
+    /**
+     * Creates a driver whose only supported commands are session creation and quit.
+     */
+    public static AndroidDriver sessionOnlyDriver(Capabilities capabilities) {
+        return new AndroidDriver(new InProcessCommandExecutor(command -> {
+            throw new UnsupportedCommandException(command.getName() + " is not supported by the in-process executor");
+        }), capabilities);
+    }
+
+    /**
+     * Creates a driver whose commands are answered by the fake app.
+     */
+    public static AndroidDriver driverFor(FakeApp app, Capabilities capabilities) {
+        return new AndroidDriver(new InProcessCommandExecutor(app), capabilities);
+    }
+
+    @Override
+    protected Response send(Command command) {
+        Response response = new Response();
+        response.setStatus(ErrorCodes.SUCCESS);
+        response.setState("success");
+        if (DriverCommand.NEW_SESSION.equals(command.getName())) {
+            response.setSessionId(UUID.randomUUID().toString());
+            response.setValue(sessionCapabilities(command));
+            return response;
+        }
+        response.setSessionId(command.getSessionId() != null ? command.getSessionId().toString() : null);
+        response.setValue(DriverCommand.QUIT.equals(command.getName()) ? null : responder.apply(command));
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> sessionCapabilities(Command command) {
+        Map<String, Object> capabilities = new HashMap<>();
+        Object requested = command.getParameters().get("capabilities");
+        if (requested instanceof Map) {
+            Object alwaysMatch = ((Map<String, Object>) requested).get("alwaysMatch");
+            if (alwaysMatch instanceof Map) {
+                capabilities.putAll((Map<String, Object>) alwaysMatch);
+            }
+        } else if (requested instanceof Capabilities) {
+            capabilities.putAll(((Capabilities) requested).asMap());
+        }
+        capabilities.putIfAbsent("platformName", "Android");
+        capabilities.putIfAbsent("appium:automationName", "UiAutomator2");
+        return capabilities;
+    }
+}
@@ -0,0 +1,498 @@
+package com.mobile.test.fake;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Swag Labs uygulamasının testlerin kullandığı ekranlarını taklit eden sahte uygulama
+ * Fake of the Swag Labs screens the suite uses: login, products, cart, checkout and menu
+ *
+ * <p>Locators, texts and flows follow the real app closely enough for the page objects to
+ * run unchanged: validation messages on login and checkout, cart badge, add/remove buttons,
+ * side menu with reset and logout, and {@code swaglabs://} deep links that also set the cart
+ * contents. The checkout overview keeps FINISH below the fold until the screen is swiped.</p>
+ */
+public class SwagLabsFakeApp extends FakeApp {
+    public static final String STANDARD_USER = "standard_user";
+    public static final String LOCKED_OUT_USER = "locked_out_user";
+    public static final String PASSWORD = "secret_sauce";
+
+    static final String[] PRODUCTS = {
+        "Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt",
+        "Sauce Labs Fleece Jacket", "Sauce Labs Onesie", "Test.allTheThings() T-Shirt (Red)"
+    };
+    static final String[] PRICES = {"$29.99", "$9.99", "$15.99", "$49.99", "$7.99", "$15.99"};
+
+    private static final String PACKAGE = "com.swaglabsmobileapp";
+    private static final int WIDTH = 1080;
+
+    public enum Screen { LOGIN, PRODUCTS, CART, CHECKOUT_INFO, CHECKOUT_OVERVIEW, COMPLETE }
+
+    private final Set<Integer> cart = new LinkedHashSet<>();
+    private final Map<String, String> fields = new LinkedHashMap<>();
+    private Screen screen = Screen.LOGIN;
+    private boolean loggedIn;
+    private boolean menuOpen;
+    private boolean scrolled;
+    private String error;
+
+    public synchronized Screen getScreen() {
+        return screen;
+    }
+
+    public synchronized Set<Integer> getCart() {
+        return new LinkedHashSet<>(cart);
+    }
+
+    @Override
+    protected synchronized void onClick(Element element) {
+        String target = clickTarget(element);
+        switch (target) {
+            case "test-LOGIN":
+                login();
+                break;
+            case "test-Menu":
+                menuOpen = true;
+                break;
+            case "test-Close":
+                menuOpen = false;
+                break;
+            case "test-ALL ITEMS":
+                menuOpen = false;
+                show(Screen.PRODUCTS);
+                break;
+            case "test-RESET APP STATE":
+                cart.clear();
+                break;
+            case "test-LOGOUT":
+                menuOpen = false;
+                loggedIn = false;
+                fields.clear();
+                error = null;
+                show(Screen.LOGIN);
+                break;
+            case "test-ADD TO CART":
+                cart.add(itemIndex(element));
+                break;
+            case "test-REMOVE":
+                cart.remove(itemIndex(element));
+                break;
+            case "test-Cart":
+                show(Screen.CART);
+                break;
+            case "test-CONTINUE SHOPPING":
+                show(Screen.PRODUCTS);
+                break;
+            case "test-CHECKOUT":
+                show(Screen.CHECKOUT_INFO);
+                break;
+            case "test-CONTINUE":
+                continueCheckout();
+                break;
+            case "test-CANCEL":
+                show(Screen.PRODUCTS);
+                break;
+            case "test-FINISH":
+                cart.clear();
+                show(Screen.COMPLETE);
+                break;
+            case "test-BACK HOME":
+                show(Screen.PRODUCTS);
+                break;
+            default:
+                return;
+        }
+        changed();
+    }
+
+    @Override
+    protected synchronized void onType(Element element, String text) {
+        String field = element.getAttribute("content-desc");
+        if (!"android.widget.EditText".equals(element.getAttribute("class")) || !field.startsWith("test-")) {
+            return;
+        }
+        fields.put(field, text);
+        redraw();
+    }
+
+    @Override
+    protected synchronized void onDeepLink(String url) {
+        String[] parts = url.replaceFirst("^swaglabs://", "").split("/", 2);
+        cart.clear();
+        if (parts.length > 1) {
+            for (String id : parts[1].split(",")) {
+                if (id.trim().matches("\\d+") && Integer.parseInt(id.trim()) < PRODUCTS.length) {
+                    cart.add(Integer.parseInt(id.trim()));
+                }
+            }
+        }
+        loggedIn = true;
+        menuOpen = false;
+        error = null;
+        switch (parts[0]) {
+            case "swag-overview":
+                show(Screen.PRODUCTS);
+                break;
+            case "cart":
+                show(Screen.CART);
+                break;
+            case "personal-info":
+                show(Screen.CHECKOUT_INFO);
+                break;
+            case "checkout-overview":
+                show(Screen.CHECKOUT_OVERVIEW);
+                break;
+            case "complete":
+                show(Screen.COMPLETE);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown deep link: " + url);
+        }
+    }
+
+    @Override
+    protected synchronized void onLaunch(boolean clearData) {
+        cart.clear();
+        fields.clear();
+        loggedIn = false;
+        menuOpen = false;
+        error = null;
+        screen = Screen.LOGIN;
+    }
+
+    @Override
+    protected synchronized void onGesture() {
+        if (screen == Screen.CHECKOUT_OVERVIEW && !scrolled) {
+            scrolled = true;
+            changed();
+        }
+    }
+
+    private void login() {
+        String username = fields.getOrDefault("test-Username", "");
+        String password = fields.getOrDefault("test-Password", "");
+        if (username.isEmpty()) {
+            error = "Username is required";
+        } else if (password.isEmpty()) {
+            error = "Password is required";
+        } else if (LOCKED_OUT_USER.equals(username)) {
+            error = "Sorry, this user has been locked out.";
+        } else if (!STANDARD_USER.equals(username) || !PASSWORD.equals(password)) {
+            error = "Username and password do not match any user in this service.";
+        } else {
+            error = null;
+            loggedIn = true;
+            show(Screen.PRODUCTS);
+        }
+    }
+
+    private void continueCheckout() {
+        if (fields.getOrDefault("test-First Name", "").isEmpty()) {
+            error = "First Name is required";
+        } else if (fields.getOrDefault("test-Last Name", "").isEmpty()) {
+            error = "Last Name is required";
+        } else if (fields.getOrDefault("test-Zip/Postal Code", "").isEmpty()) {
+            error = "Postal Code is required";
+        } else {
+            show(Screen.CHECKOUT_OVERVIEW);
+        }
+    }
+
+    private void show(Screen next) {
+        if (next != Screen.LOGIN && !loggedIn) {
+            next = Screen.LOGIN;
+        }
+        if (next == Screen.CHECKOUT_INFO) {
+            fields.remove("test-First Name");
+            fields.remove("test-Last Name");
+            fields.remove("test-Zip/Postal Code");
+        }
+        error = next == screen ? error : null;
+        scrolled = false;
+        screen = next;
+    }
+
+    /**
+     * Clicks on a label land on the nearest ancestor with a test id, like on the device.
+     */
+    private static String clickTarget(Element element) {
+        for (Node node = element; node instanceof Element; node = node.getParentNode()) {
+            String contentDesc = ((Element) node).getAttribute("content-desc");
+            if (contentDesc.startsWith("test-") && !contentDesc.startsWith("test-Item")) {
+                return contentDesc;
+            }
+        }
+        return "";
+    }
+
+    private static int itemIndex(Element element) {
+        for (Node node = element; node instanceof Element; node = node.getParentNode()) {
+            Element candidate = (Element) node;
+            if ("test-Item".equals(candidate.getAttribute("content-desc"))) {
+                return Integer.parseInt(candidate.getAttribute("index"));
+            }
+        }
+        return 0;
+    }
+
+    // --- Rendering ---
+
+    @Override
+    protected synchronized String render() {
+        Xml root = new Xml("android.widget.FrameLayout").bounds(0, 0, WIDTH, 2400);
+        if (!isRunning()) {
+            root.attr("package", "com.google.android.apps.nexuslauncher");
+            return root.document();
+        }
+        switch (screen) {
+            case LOGIN:
+                renderLogin(root);
+                break;
+            case PRODUCTS:
+                renderHeader(root);
+                renderProducts(root);
+                break;
+            case CART:
+                renderHeader(root);
+                renderCart(root);
+                break;
+            case CHECKOUT_INFO:
+                renderHeader(root);
+                renderCheckoutInfo(root);
+                break;
+            case CHECKOUT_OVERVIEW:
+                renderHeader(root);
+                renderOverview(root);
+                break;
+            default:
+                renderHeader(root);
+                renderComplete(root);
+                break;
+        }
+        if (menuOpen) {
+            renderMenu(root);
+        }
+        return root.document();
+    }
+
+    private void renderLogin(Xml root) {
+        Xml form = root.child(new Xml("android.widget.ScrollView").desc("test-Login").bounds(0, 0, WIDTH, 2400));
+        form.child(new Xml("android.widget.ImageView").bounds(140, 180, 940, 420));
+        form.child(textField("test-Username", "Username", 500));
+        form.child(textField("test-Password", "Password", 640).attr("password", "true"));
+        if (error != null) {
+            form.child(new Xml("android.view.ViewGroup").desc("test-Error message").bounds(60, 780, 1020, 880))
+                    .child(new Xml("android.widget.TextView").text(error).bounds(80, 800, 1000, 860));
+        }
+        form.child(button("test-LOGIN", "LOGIN", 920));
+        form.child(new Xml("android.widget.TextView").text("The currently accepted usernames for this application are (tap to autofill):")
+                .bounds(60, 1100, 1020, 1200));
+        int y = 1220;
+        for (String user : new String[] {STANDARD_USER, LOCKED_OUT_USER, "problem_user"}) {
+            form.child(new Xml("android.view.ViewGroup").desc("test-" + user).bounds(60, y, 1020, y + 80))
+                    .child(new Xml("android.widget.TextView").text(user).bounds(80, y + 10, 1000, y + 70));
+            y += 90;
+        }
+    }
+
+    private void renderHeader(Xml root) {
+        Xml header = root.child(new Xml("android.view.ViewGroup").bounds(0, 0, WIDTH, 200));
+        header.child(new Xml("android.view.ViewGroup").desc("test-Menu").clickable().bounds(20, 60, 140, 180))
+                .child(new Xml("android.widget.ImageView").bounds(40, 80, 120, 160));
+        Xml cartIcon = header.child(new Xml("android.view.ViewGroup").desc("test-Cart").clickable().bounds(940, 60, 1060, 180));
+        cartIcon.child(new Xml("android.widget.ImageView").bounds(960, 80, 1040, 160));
+        if (!cart.isEmpty()) {
+            cartIcon.child(new Xml("android.view.ViewGroup").bounds(1010, 70, 1060, 120))
+                    .child(new Xml("android.widget.TextView").text(String.valueOf(cart.size())).bounds(1020, 75, 1050, 115));
+        }
+    }
+
+    private void renderProducts(Xml root) {
+        Xml list = root.child(new Xml("android.widget.ScrollView").desc("test-PRODUCTS").bounds(0, 200, WIDTH, 2400));
+        list.child(new Xml("android.widget.TextView").text("PRODUCTS").bounds(40, 220, 500, 300));
+        int y = 320;
+        for (int i = 0; i < PRODUCTS.length; i++) {
+            boolean inCart = cart.contains(i);
+            Xml item = list.child(new Xml("android.view.ViewGroup").desc("test-Item").attr("index", String.valueOf(i))
+                    .bounds(20, y, WIDTH - 20, y + 680).displayed(y + 680 <= 2400));
+            item.child(new Xml("android.widget.ImageView").bounds(40, y + 20, 520, y + 440));
+            item.child(new Xml("android.widget.TextView").desc("test-Item title").text(PRODUCTS[i]).bounds(40, y + 460, 1040, y + 520));
+            item.child(new Xml("android.widget.TextView").desc("test-Price").text(PRICES[i]).bounds(40, y + 530, 400, y + 590));
+            item.child(button(inCart ? "test-REMOVE" : "test-ADD TO CART", inCart ? "REMOVE" : "ADD TO CART", y + 600));
+            y += 700;
+        }
+    }
+
+    private void renderCart(Xml root) {
+        Xml list = root.child(new Xml("android.widget.ScrollView").desc("test-Cart Content").bounds(0, 200, WIDTH, 2400));
+        list.child(new Xml("android.widget.TextView").text("YOUR CART").bounds(40, 220, 500, 300));
+        int y = 320;
+        for (int i : cart) {
+            Xml item = list.child(new Xml("android.view.ViewGroup").desc("test-Item").attr("index", String.valueOf(i))
+                    .bounds(20, y, WIDTH - 20, y + 300));
+            item.child(new Xml("android.view.ViewGroup").desc("test-Amount").bounds(40, y + 20, 140, y + 100))
+                    .child(new Xml("android.widget.TextView").text("1").bounds(60, y + 30, 120, y + 90));
+            item.child(new Xml("android.widget.TextView").desc("test-Item title").text(PRODUCTS[i]).bounds(180, y + 20, 1040, y + 80));
+            item.child(new Xml("android.widget.TextView").desc("test-Price").text(PRICES[i]).bounds(180, y + 120, 400, y + 180));
+            item.child(button("test-REMOVE", "REMOVE", y + 200));
+            y += 320;
+        }
+        list.child(button("test-CONTINUE SHOPPING", "CONTINUE SHOPPING", y + 40));
+        list.child(button("test-CHECKOUT", "CHECKOUT", y + 180));
+    }
+
+    private void renderCheckoutInfo(Xml root) {
+        Xml form = root.child(new Xml("android.widget.ScrollView").desc("test-Checkout: Your Info").bounds(0, 200, WIDTH, 2400));
+        form.child(new Xml("android.widget.TextView").text("CHECKOUT: INFORMATION").bounds(40, 220, 800, 300));
+        form.child(textField("test-First Name", "First Name", 340));
+        form.child(textField("test-Last Name", "Last Name", 480));
+        form.child(textField("test-Zip/Postal Code", "Zip/Postal Code", 620));
+        if (error != null) {
+            form.child(new Xml("android.view.ViewGroup").desc("test-Error message").bounds(60, 760, 1020, 860))
+                    .child(new Xml("android.widget.TextView").text(error).bounds(80, 780, 1000, 840));
+        }
+        form.child(button("test-CANCEL", "CANCEL", 900));
+        form.child(button("test-CONTINUE", "CONTINUE", 1040));
+    }
+
+    private void renderOverview(Xml root) {
+        int offset = scrolled ? -900 : 0;
+        Xml list = root.child(new Xml("android.widget.ScrollView").desc("test-CHECKOUT: OVERVIEW").bounds(0, 200, WIDTH, 2400));
+        list.child(new Xml("android.widget.TextView").text("CHECKOUT: OVERVIEW").bounds(40, 220 + offset, 800, 300 + offset)
+                .displayed(!scrolled));
+        int y = 320 + offset;
+        double total = 0;
+        for (int i : cart) {
+            list.child(new Xml("android.view.ViewGroup").desc("test-Item").attr("index", String.valueOf(i))
+                    .bounds(20, y, WIDTH - 20, y + 300).displayed(y >= 200))
+                    .child(new Xml("android.widget.TextView").desc("test-Item title").text(PRODUCTS[i]).bounds(180, y + 20, 1040, y + 80));
+            total += Double.parseDouble(PRICES[i].substring(1));
+            y += 320;
+        }
+        y = Math.max(y, 1500 + offset);
+        list.child(new Xml("android.widget.TextView").text(String.format("Item total: $%.2f", total)).bounds(40, y, 800, y + 60));
+        list.child(new Xml("android.widget.TextView").text(String.format("Total: $%.2f", total * 1.08)).bounds(40, y + 80, 800, y + 140));
+        // Below the fold (2400) until the overview has been swiped up
+        list.child(button("test-CANCEL", "CANCEL", y + 700).displayed(scrolled));
+        list.child(button("test-FINISH", "FINISH", y + 840).displayed(scrolled));
+    }
+
+    private void renderComplete(Xml root) {
+        Xml page = root.child(new Xml("android.widget.ScrollView").desc("test-CHECKOUT: COMPLETE!").bounds(0, 200, WIDTH, 2400));
+        page.child(new Xml("android.widget.TextView").text("CHECKOUT: COMPLETE!").bounds(40, 220, 800, 300));
+        page.child(new Xml("android.widget.TextView").text("THANK YOU FOR YOU ORDER").bounds(40, 500, 1040, 580));
+        page.child(new Xml("android.widget.TextView")
+                .text("Your order has been dispatched, and will arrive just as fast as the pony can get there!")
+                .bounds(40, 600, 1040, 760));
+        page.child(button("test-BACK HOME", "BACK HOME", 900));
+    }
+
+    private void renderMenu(Xml root) {
+        Xml menu = root.child(new Xml("android.view.ViewGroup").desc("test-Menu items").bounds(0, 0, 800, 2400));
+        menu.child(new Xml("android.view.ViewGroup").desc("test-Close").clickable().bounds(680, 60, 780, 160));
+        int y = 300;
+        for (String entry : new String[] {"ALL ITEMS", "WEBVIEW", "QR CODE SCANNER", "GEO LOCATION", "DRAWING", "ABOUT", "LOGOUT", "RESET APP STATE"}) {
+            menu.child(new Xml("android.view.ViewGroup").desc("test-" + entry).clickable().bounds(40, y, 760, y + 100))
+                    .child(new Xml("android.widget.TextView").text(entry).bounds(60, y + 20, 740, y + 80));
+            y += 120;
+        }
+    }
+
+    private Xml textField(String contentDesc, String placeholder, int y) {
+        String value = fields.getOrDefault(contentDesc, "");
+        return new Xml("android.widget.EditText").desc(contentDesc).text(value).attr("hint", placeholder)
+                .clickable().bounds(60, y, 1020, y + 110);
+    }
+
+    private static Xml button(String contentDesc, String label, int y) {
+        Xml button = new Xml("android.view.ViewGroup").desc(contentDesc).clickable().bounds(60, y, 1020, y + 110);
+        button.child(new Xml("android.widget.TextView").text(label).bounds(80, y + 20, 1000, y + 90));
+        return button;
+    }
+
+    /**
+     * Minimal builder for UiAutomator2-style page-source XML.
+     */
+    static final class Xml {
+        private final String className;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+        private final List<Xml> children = new ArrayList<>();
+
+        Xml(String className) {
+            this.className = className;
+            attributes.put("index", "0");
+            attributes.put("package", PACKAGE);
+            attributes.put("class", className);
+            attributes.put("text", "");
+            attributes.put("content-desc", "");
+            attributes.put("clickable", "false");
+            attributes.put("enabled", "true");
+            attributes.put("displayed", "true");
+        }
+
+        Xml attr(String name, String value) {
+            attributes.put(name, value);
+            return this;
+        }
+
+        Xml text(String text) {
+            return attr("text", text);
+        }
+
+        Xml desc(String contentDesc) {
+            return attr("content-desc", contentDesc);
+        }
+
+        Xml clickable() {
+            return attr("clickable", "true");
+        }
+
+        Xml displayed(boolean displayed) {
+            return attr("displayed", String.valueOf(displayed));
+        }
+
+        Xml bounds(int x1, int y1, int x2, int y2) {
+            return attr("bounds", "[" + x1 + "," + y1 + "][" + x2 + "," + y2 + "]");
+        }
+
+        Xml child(Xml child) {
+            children.add(child);
+            return child;
+        }
+
+        String document() {
+            StringBuilder xml = new StringBuilder(8192);
+            xml.append("<?xml version='1.0' encoding='UTF-8' standalone='yes' ?>")
+                    .append("<hierarchy index=\"0\" class=\"hierarchy\" rotation=\"0\" width=\"1080\" height=\"2400\">");
+            write(xml);
+            return xml.append("</hierarchy>").toString();
+        }
+
+        private void write(StringBuilder xml) {
+            xml.append('<').append(className);
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                xml.append(' ').append(attribute.getKey()).append("=\"").append(escape(attribute.getValue())).append('"');
+            }
+            if (children.isEmpty()) {
+                xml.append(" />");
+                return;
+            }
+            xml.append('>');
+            for (Xml child : children) {
+                child.write(xml);
+            }
+            xml.append("</").append(className).append('>');
+        }
+
+        private static String escape(String value) {
+            return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+        }
+    }
+}
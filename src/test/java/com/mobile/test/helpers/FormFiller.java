@@ -0,0 +1,161 @@
+package com.mobile.test.helpers;
+
+import com.google.common.collect.ImmutableMap;
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Çok alanlı formları az sayıda sürücü çağrısıyla doldurur
+ * Fills multi-field forms with as few driver round trips as possible
+ *
+ * <p>Instead of wait + clear + sendKeys per field:</p>
+ * <ol>
+ *   <li>all fields are resolved with one {@code findElements} over the union of their XPaths,
+ *       mapped back to the fields through a page-source snapshot taken just before it;</li>
+ *   <li>each value is set with one {@code mobile: replaceElementValue} call, falling back to
+ *       clear + sendKeys on servers that do not support it;</li>
+ *   <li>all values are read back from one fresh page source.</li>
+ * </ol>
+ * <p>Password fields are not compared on read-back, since Android masks their text.</p>
+ */
+public class FormFiller {
+    private static final Logger LOG = LogManager.getLogger(FormFiller.class);
+    private static final Duration FIELDS_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AndroidDriver driver;
+    private final WaitHelper waitHelper;
+    private volatile boolean replaceValueSupported = true;
+
+    public FormFiller(AndroidDriver driver, WaitHelper waitHelper) {
+        this.driver = driver;
+        this.waitHelper = waitHelper;
+    }
+
+    /**
+     * Sets every field to its value, in map order.
+     *
+     * @return the values read back from the screen after filling
+     */
+    public Map<By, String> fill(Map<By, String> values) {
+        List<By> fields = new ArrayList<>(values.keySet());
+        List<WebElement> elements = resolve(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            setValue(elements.get(i), values.get(fields.get(i)));
+        }
+        Map<By, String> actual = read(fields, PageSourceCache.of(driver).refresh());
+        for (By field : fields) {
+            String expected = values.get(field);
+            if (!expected.equals(actual.get(field)) && !isPassword(field)) {
+                LOG.warn("⚠️ Alan değeri doğrulanamadı / Field value not confirmed for " + field
+                        + ": expected '" + expected + "', screen shows '" + actual.get(field) + "'");
+            }
+        }
+        LOG.info("✅ Form dolduruldu / Form filled: " + fields.size() + " field(s)");
+        return actual;
+    }
+
+    /**
+     * Current text of every field, from one page-source snapshot; null for absent fields.
+     */
+    public Map<By, String> read(Collection<By> fields) {
+        return read(fields, PageSourceCache.of(driver).get());
+    }
+
+    private Map<By, String> read(Collection<By> fields, PageSourceSnapshot snapshot) {
+        Map<By, String> values = new LinkedHashMap<>();
+        for (By field : fields) {
+            Element element = first(snapshot, LocatorXPath.of(field));
+            values.put(field, element != null ? element.getAttribute("text") : null);
+        }
+        return values;
+    }
+
+    private List<WebElement> resolve(List<By> fields) {
+        StringJoiner union = new StringJoiner(" | ");
+        for (By field : fields) {
+            union.add(LocatorXPath.of(field));
+        }
+        boolean present = waitHelper.pollUntilTrue("form.fields", FIELDS_TIMEOUT,
+                () -> allPresent(fields, PageSourceCache.of(driver).get()) || allPresent(fields, PageSourceCache.of(driver).refresh()));
+        if (!present) {
+            throw new NoSuchElementException("Form fields not found: " + fields);
+        }
+
+        // Server returns the union in document order, like the local evaluation of the snapshot. The
+        // snapshot is taken right before the lookup: a cached one may predate a re-render that
+        // added or reordered nodes, and an equal count would then map fields to the wrong elements.
+        PageSourceSnapshot snapshot = PageSourceCache.of(driver).refresh();
+        List<Element> local = elements(snapshot.evaluate(union.toString()));
+        List<WebElement> remote = driver.findElements(By.xpath(union.toString()));
+        List<WebElement> resolved = new ArrayList<>();
+        for (By field : fields) {
+            int index = local.indexOf(first(snapshot, LocatorXPath.of(field)));
+            resolved.add(remote.size() == local.size() && index >= 0 ? remote.get(index) : driver.findElement(field));
+        }
+        return resolved;
+    }
+
+    private void setValue(WebElement element, String value) {
+        if (replaceValueSupported && element instanceof RemoteWebElement) {
+            try {
+                driver.executeScript("mobile: replaceElementValue",
+                        ImmutableMap.of("elementId", ((RemoteWebElement) element).getId(), "text", value));
+                return;
+            } catch (UnsupportedCommandException e) {
+                replaceValueSupported = false;
+                LOG.warn("⚠️ replaceElementValue desteklenmiyor, sendKeys kullanılacak / not supported, falling back to sendKeys: "
+                        + e.getMessage());
+            } catch (WebDriverException e) {
+                LOG.warn("⚠️ replaceElementValue başarısız, sendKeys deneniyor / failed, retrying with sendKeys: " + e.getMessage());
+            }
+        }
+        element.clear();
+        element.sendKeys(value);
+    }
+
+    private boolean isPassword(By field) {
+        Element element = first(PageSourceCache.of(driver).get(), LocatorXPath.of(field));
+        return element != null && Boolean.parseBoolean(element.getAttribute("password"));
+    }
+
+    private static boolean allPresent(List<By> fields, PageSourceSnapshot snapshot) {
+        for (By field : fields) {
+            if (first(snapshot, LocatorXPath.of(field)) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Element first(PageSourceSnapshot snapshot, String xpath) {
+        List<Element> matches = elements(snapshot.evaluate(xpath));
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    private static List<Element> elements(NodeList nodes) {
+        List<Element> elements = new ArrayList<>();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element) {
+                elements.add((Element) nodes.item(i));
+            }
+        }
+        return elements;
+    }
+}
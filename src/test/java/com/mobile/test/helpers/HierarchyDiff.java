@@ -0,0 +1,221 @@
+package com.mobile.test.helpers;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * İki sayfa kaynağı arasındaki yapısal farkı ve aranan lokatöre en yakın elementleri çıkarır
+ * Structural diff between two page sources, and the nodes closest to a locator that did not match
+ *
+ * <p>Each node is reduced to one line: its depth, class and identifying attributes
+ * (content-desc, resource-id, text, displayed). Bounds, focus and similar state are left out,
+ * so the diff shows what appeared, disappeared or was renamed rather than what moved.</p>
+ */
+public final class HierarchyDiff {
+    /** LCS tablosu sınırı / Above this many cells the diff falls back to a set difference */
+    private static final long MAX_LCS_CELLS = 4_000_000L;
+    private static final int MAX_DIFF_LINES = 200;
+
+    // Selenium 3 "*** Element info: {Using=..., value=...}", Selenium 4 "Command: [..., findElement {using=..., value=...}]"
+    private static final Pattern ELEMENT_INFO = Pattern.compile("using=([^,]+), value=([^}]+)}", Pattern.CASE_INSENSITIVE);
+    private static final Pattern BY_LOCATOR = Pattern.compile("By\\.(?:accessibilityId|id|className|xpath|androidUIAutomator): ([^\\n]+?)(?: into view)?$",
+            Pattern.MULTILINE);
+    private static final Pattern QUOTED = Pattern.compile("['\"]([^'\"]{2,})['\"]");
+
+    private HierarchyDiff() {
+    }
+
+    /**
+     * One line per node, indented by depth, in document order.
+     */
+    public static List<String> outline(PageSourceSnapshot snapshot) {
+        List<String> lines = new ArrayList<>();
+        for (Element element : snapshot.getElements()) {
+            lines.add(describe(element, depth(element)));
+        }
+        return lines;
+    }
+
+    /**
+     * Diff of the two outlines, {@code -} for nodes only in {@code good}, {@code +} for nodes
+     * only in {@code failed}; empty when the hierarchies match.
+     */
+    public static String diff(PageSourceSnapshot good, PageSourceSnapshot failed) {
+        List<String> before = outline(good);
+        List<String> after = outline(failed);
+        List<String> lines = (long) before.size() * after.size() <= MAX_LCS_CELLS ? lcsDiff(before, after) : setDiff(before, after);
+        StringBuilder sb = new StringBuilder();
+        int shown = Math.min(lines.size(), MAX_DIFF_LINES);
+        for (int i = 0; i < shown; i++) {
+            sb.append(lines.get(i)).append('\n');
+        }
+        if (lines.size() > shown) {
+            sb.append("... ").append(lines.size() - shown).append(" more changed nodes\n");
+        }
+        return sb.toString();
+    }
+
+    private static List<String> lcsDiff(List<String> before, List<String> after) {
+        int n = before.size();
+        int m = after.size();
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = before.get(i).equals(after.get(j)) ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        List<String> lines = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < n && j < m) {
+            if (before.get(i).equals(after.get(j))) {
+                i++;
+                j++;
+            } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                lines.add("- " + before.get(i++));
+            } else {
+                lines.add("+ " + after.get(j++));
+            }
+        }
+        while (i < n) {
+            lines.add("- " + before.get(i++));
+        }
+        while (j < m) {
+            lines.add("+ " + after.get(j++));
+        }
+        return lines;
+    }
+
+    private static List<String> setDiff(List<String> before, List<String> after) {
+        List<String> lines = new ArrayList<>();
+        List<String> remaining = new ArrayList<>(after);
+        for (String line : before) {
+            if (!remaining.remove(line)) {
+                lines.add("- " + line);
+            }
+        }
+        for (String line : remaining) {
+            lines.add("+ " + line);
+        }
+        return lines;
+    }
+
+    /**
+     * Extracts the value of the locator that failed from a Selenium/Appium exception chain
+     * (the {@code {using=..., value=...}} parameters of the failed command or a
+     * {@code By.xxx: value} message);
+     * for XPath locators the quoted literals are returned instead.
+     */
+    public static List<String> locatorValues(Throwable failure) {
+        List<String> values = new ArrayList<>();
+        for (Throwable t = failure; t != null && values.isEmpty(); t = t.getCause()) {
+            String message = t.getMessage();
+            if (message == null) {
+                continue;
+            }
+            Matcher info = ELEMENT_INFO.matcher(message);
+            Matcher by = BY_LOCATOR.matcher(message);
+            String value = info.find() ? info.group(2).trim() : by.find() ? by.group(1).trim() : null;
+            if (value == null) {
+                continue;
+            }
+            Matcher quoted = QUOTED.matcher(value);
+            while (quoted.find()) {
+                values.add(quoted.group(1));
+            }
+            if (values.isEmpty()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Nodes whose content-desc, resource-id or text is closest to the value (edit distance
+     * after lower-casing), best first.
+     */
+    public static List<String> nearestMatches(PageSourceSnapshot snapshot, String value, int limit) {
+        String needle = value.toLowerCase(Locale.ROOT);
+        List<Element> candidates = new ArrayList<>();
+        List<Integer> distances = new ArrayList<>();
+        for (Element element : snapshot.getElements()) {
+            int best = Integer.MAX_VALUE;
+            for (String attribute : new String[]{"content-desc", "resource-id", "text"}) {
+                String candidate = element.getAttribute(attribute);
+                if (!candidate.isEmpty()) {
+                    best = Math.min(best, distance(needle, candidate.toLowerCase(Locale.ROOT)));
+                }
+            }
+            if (best != Integer.MAX_VALUE) {
+                candidates.add(element);
+                distances.add(best);
+            }
+        }
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt(distances::get));
+        List<String> matches = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, order.size()); i++) {
+            int index = order.get(i);
+            matches.add(String.format("distance %d: %s", distances.get(index), describe(candidates.get(index), 0).trim()));
+        }
+        return matches;
+    }
+
+    private static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static String describe(Element element, int depth) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("  ");
+        }
+        sb.append(element.hasAttribute("class") ? element.getAttribute("class") : element.getTagName());
+        append(sb, "desc", element.getAttribute("content-desc"));
+        append(sb, "id", element.getAttribute("resource-id"));
+        append(sb, "text", element.getAttribute("text"));
+        if ("false".equals(element.getAttribute("displayed"))) {
+            sb.append(" hidden");
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String name, String value) {
+        if (!value.isEmpty()) {
+            sb.append(' ').append(name).append("=\"").append(value).append('"');
+        }
+    }
+
+    private static int depth(Element element) {
+        int depth = 0;
+        for (Node parent = element.getParentNode(); parent instanceof Element; parent = parent.getParentNode()) {
+            depth++;
+        }
+        return depth;
+    }
+}
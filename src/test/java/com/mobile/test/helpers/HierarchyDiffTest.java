@@ -0,0 +1,97 @@
+package com.mobile.test.helpers;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class HierarchyDiffTest {
+    private static final String LOGIN_SCREEN = "<hierarchy>"
+            + "<android.widget.FrameLayout class=\"android.widget.FrameLayout\">"
+            + "<android.widget.EditText class=\"android.widget.EditText\" content-desc=\"test-Username\" text=\"Username\"/>"
+            + "<android.widget.EditText class=\"android.widget.EditText\" content-desc=\"test-Password\" text=\"Password\"/>"
+            + "<android.view.ViewGroup class=\"android.view.ViewGroup\" content-desc=\"test-LOGIN\" bounds=\"[0,900][1080,1000]\"/>"
+            + "</android.widget.FrameLayout>"
+            + "</hierarchy>";
+
+    // Same screen with the button renamed and an error shown; the button also moved
+    private static final String FAILED_SCREEN = "<hierarchy>"
+            + "<android.widget.FrameLayout class=\"android.widget.FrameLayout\">"
+            + "<android.widget.EditText class=\"android.widget.EditText\" content-desc=\"test-Username\" text=\"Username\"/>"
+            + "<android.widget.EditText class=\"android.widget.EditText\" content-desc=\"test-Password\" text=\"Password\"/>"
+            + "<android.widget.TextView class=\"android.widget.TextView\" text=\"Username is required\"/>"
+            + "<android.view.ViewGroup class=\"android.view.ViewGroup\" content-desc=\"test-SIGN IN\" bounds=\"[0,1000][1080,1100]\"/>"
+            + "</android.widget.FrameLayout>"
+            + "</hierarchy>";
+
+    // Selenium 4 appends the failed command to the message
+    private static final String APPIUM_NO_SUCH_ELEMENT = "An element could not be located on the page using the given search parameters.\n"
+            + "For documentation on this error, please visit: https://www.selenium.dev/documentation/webdriver/troubleshooting/errors#no-such-element-exception\n"
+            + "Build info: version: '4.11.0', revision: '040bc5406b'\n"
+            + "System info: os.name: 'Linux', os.arch: 'amd64', os.version: '6.5.0', java.version: '11.0.22'\n"
+            + "Driver info: io.appium.java_client.android.AndroidDriver\n"
+            + "Command: [5f2d7c1e-0d2a-4b8e-9d7e-3c1f0a6b2e11, findElement {using=accessibility id, value=test-LOGIN}]\n"
+            + "Capabilities {appium:automationName: UiAutomator2, platformName: ANDROID}\n"
+            + "Session ID: 5f2d7c1e-0d2a-4b8e-9d7e-3c1f0a6b2e11";
+
+    @Test
+    public void identicalHierarchiesHaveNoDiff() {
+        PageSourceSnapshot screen = PageSourceSnapshot.parse(LOGIN_SCREEN);
+        Assert.assertEquals(HierarchyDiff.diff(screen, PageSourceSnapshot.parse(LOGIN_SCREEN)), "");
+    }
+
+    @Test
+    public void diffShowsRemovedAndAddedNodesButNotMovedOnes() {
+        String diff = HierarchyDiff.diff(PageSourceSnapshot.parse(LOGIN_SCREEN), PageSourceSnapshot.parse(FAILED_SCREEN));
+
+        Assert.assertEquals(diff, "- " + "    android.view.ViewGroup desc=\"test-LOGIN\"\n"
+                + "+ " + "    android.widget.TextView text=\"Username is required\"\n"
+                + "+ " + "    android.view.ViewGroup desc=\"test-SIGN IN\"\n");
+    }
+
+    @Test
+    public void locatorValueFromAppiumCommandInfo() {
+        Assert.assertEquals(HierarchyDiff.locatorValues(new NoSuchElementException(APPIUM_NO_SUCH_ELEMENT)),
+                Collections.singletonList("test-LOGIN"));
+    }
+
+    @Test
+    public void locatorValueFromSelenium3ElementInfo() {
+        NoSuchElementException failure = new NoSuchElementException("no such element\n"
+                + "*** Element info: {Using=id, value=com.swaglabsmobileapp:id/cart}");
+        Assert.assertEquals(HierarchyDiff.locatorValues(failure), Collections.singletonList("com.swaglabsmobileapp:id/cart"));
+    }
+
+    @Test
+    public void xpathLocatorYieldsItsQuotedLiterals() {
+        String message = APPIUM_NO_SUCH_ELEMENT.replace("findElement {using=accessibility id, value=test-LOGIN}",
+                "findElements {using=xpath, value=//android.widget.TextView[@text='PRODUCTS' or @content-desc=\"test-PRODUCTS\"]}");
+        Assert.assertEquals(HierarchyDiff.locatorValues(new NoSuchElementException(message)),
+                Arrays.asList("PRODUCTS", "test-PRODUCTS"));
+    }
+
+    @Test
+    public void locatorValueFromTheCauseOfAWaitTimeout() {
+        TimeoutException failure = new TimeoutException("Expected condition failed: checkout.finish (tried for 10000 ms with adaptive polling)",
+                new NoSuchElementException("Could not scroll AppiumBy.accessibilityId: test-FINISH into view"));
+        Assert.assertEquals(HierarchyDiff.locatorValues(failure), Collections.singletonList("test-FINISH"));
+    }
+
+    @Test
+    public void failureWithoutLocatorYieldsNothing() {
+        Assert.assertTrue(HierarchyDiff.locatorValues(new IllegalStateException("Order was not completed successfully!")).isEmpty());
+        Assert.assertTrue(HierarchyDiff.locatorValues(new RuntimeException((String) null)).isEmpty());
+    }
+
+    @Test
+    public void nearestMatchesRankByEditDistance() {
+        List<String> matches = HierarchyDiff.nearestMatches(PageSourceSnapshot.parse(FAILED_SCREEN), "test-LOGIN", 2);
+
+        Assert.assertEquals(matches.size(), 2);
+        Assert.assertTrue(matches.get(0).endsWith("desc=\"test-SIGN IN\""), matches.get(0));
+    }
+}
@@ -0,0 +1,182 @@
+package com.mobile.test.helpers;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pahalı lokatörler için daha ucuz eşdeğerler önerir
+ * Suggests cheaper equivalents for expensive locators, validated against captured page sources
+ *
+ * <p>A candidate is only suggested if it selects exactly the same elements, in the same order,
+ * as the original locator in every sample where the original matched anything. Candidates are
+ * tried from cheapest to most expensive: accessibility id, resource id, then a UiAutomator
+ * selector built from the XPath's own predicates.</p>
+ */
+public final class LocatorAdvisor {
+    private static final Pattern PREDICATE = Pattern.compile(
+            "contains\\(\\s*@(text|content-desc)\\s*,\\s*'([^']*)'\\s*\\)|@(text|content-desc)\\s*=\\s*'([^']*)'");
+
+    private LocatorAdvisor() {
+    }
+
+    /**
+     * A validated suggestion, or the reason there is none.
+     */
+    public static final class Advice {
+        private final String strategy;
+        private final String value;
+        private final int samples;
+        private final String reason;
+
+        private Advice(String strategy, String value, int samples, String reason) {
+            this.strategy = strategy;
+            this.value = value;
+            this.samples = samples;
+            this.reason = reason;
+        }
+
+        public boolean hasSuggestion() {
+            return value != null;
+        }
+
+        public String getStrategy() {
+            return strategy;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Number of page sources the suggestion was validated against.
+         */
+        public int getSamples() {
+            return samples;
+        }
+
+        @Override
+        public String toString() {
+            if (!hasSuggestion()) {
+                return reason;
+            }
+            String annotation = "accessibility id".equals(strategy) ? "accessibility = \"" + value + "\""
+                    : "id".equals(strategy) ? "id = \"" + value + "\""
+                    : "uiAutomator = \"" + value.replace("\"", "\\\"") + "\"";
+            return "@AndroidFindBy(" + annotation + ") (validated on " + samples + " page source(s))";
+        }
+    }
+
+    public static Advice advise(String using, String value, List<PageSourceSnapshot> snapshots) {
+        if ("accessibility id".equals(using) || "id".equals(using)) {
+            return new Advice(null, null, 0, "already a direct lookup");
+        }
+        String xpath;
+        try {
+            xpath = LocatorXPath.of(using, value);
+        } catch (IllegalArgumentException e) {
+            return new Advice(null, null, 0, "cannot evaluate locally: " + e.getMessage());
+        }
+
+        List<PageSourceSnapshot> samples = new ArrayList<>();
+        List<List<Element>> expected = new ArrayList<>();
+        for (PageSourceSnapshot snapshot : snapshots) {
+            List<Element> matches = evaluate(snapshot, xpath);
+            if (!matches.isEmpty()) {
+                samples.add(snapshot);
+                expected.add(matches);
+            }
+        }
+        if (samples.isEmpty()) {
+            return new Advice(null, null, 0, "no captured page source matched; not validated");
+        }
+
+        for (String[] candidate : candidates(xpath, expected.get(0))) {
+            if (matchesEverywhere(candidate[0], candidate[1], samples, expected)) {
+                return new Advice(candidate[0], candidate[1], samples.size(), null);
+            }
+        }
+        return new Advice(null, null, samples.size(), "no equivalent direct locator found");
+    }
+
+    private static List<String[]> candidates(String xpath, List<Element> matches) {
+        List<String[]> candidates = new ArrayList<>();
+        String contentDesc = common(matches, "content-desc");
+        if (contentDesc != null) {
+            candidates.add(new String[] {"accessibility id", contentDesc});
+        }
+        String resourceId = common(matches, "resource-id");
+        if (resourceId != null) {
+            candidates.add(new String[] {"id", resourceId});
+        }
+        String className = common(matches, "class");
+        Set<String> selectors = new LinkedHashSet<>();
+        Matcher matcher = PREDICATE.matcher(xpath);
+        while (matcher.find()) {
+            String selector = matcher.group(1) != null
+                    ? ("text".equals(matcher.group(1)) ? "textContains" : "descriptionContains") + "(" + quote(matcher.group(2)) + ")"
+                    : ("text".equals(matcher.group(3)) ? "text" : "description") + "(" + quote(matcher.group(4)) + ")";
+            if (className != null) {
+                selectors.add("new UiSelector().className(" + quote(className) + ")." + selector);
+            }
+            selectors.add("new UiSelector()." + selector);
+        }
+        String text = common(matches, "text");
+        if (text != null) {
+            selectors.add("new UiSelector().text(" + quote(text) + ")");
+        }
+        for (String selector : selectors) {
+            candidates.add(new String[] {"-android uiautomator", selector});
+        }
+        return candidates;
+    }
+
+    private static boolean matchesEverywhere(String using, String value, List<PageSourceSnapshot> samples, List<List<Element>> expected) {
+        String xpath = LocatorXPath.of(using, value);
+        for (int i = 0; i < samples.size(); i++) {
+            if (!evaluate(samples.get(i), xpath).equals(expected.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Element> evaluate(PageSourceSnapshot snapshot, String xpath) {
+        List<Element> elements = new ArrayList<>();
+        NodeList nodes = snapshot.evaluate(xpath);
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node instanceof Element) {
+                elements.add((Element) node);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * The attribute value shared by every element, or null if it differs or is empty.
+     */
+    private static String common(List<Element> elements, String attribute) {
+        String value = elements.get(0).getAttribute(attribute);
+        if (value.isEmpty()) {
+            return null;
+        }
+        for (Element element : elements) {
+            if (!value.equals(element.getAttribute(attribute))) {
+                return null;
+            }
+        }
+        return value;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,91 @@
+package com.mobile.test.helpers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class LocatorAdvisorTest {
+    private static final String TITLE_XPATH = "//android.widget.TextView[@text='PRODUCTS']";
+
+    private static PageSourceSnapshot screen(String... nodes) {
+        StringBuilder xml = new StringBuilder("<hierarchy>");
+        for (String node : nodes) {
+            xml.append(node);
+        }
+        return PageSourceSnapshot.parse(xml.append("</hierarchy>").toString());
+    }
+
+    private static String textView(String text, String contentDesc) {
+        return "<android.widget.TextView class=\"android.widget.TextView\" text=\"" + text + "\""
+                + (contentDesc != null ? " content-desc=\"" + contentDesc + "\"" : "") + "/>";
+    }
+
+    @Test
+    public void suggestsAccessibilityIdWhenItSelectsTheSameElement() {
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("xpath", TITLE_XPATH,
+                Collections.singletonList(screen(textView("PRODUCTS", "test-PRODUCTS"), textView("CART", "test-CART"))));
+
+        Assert.assertTrue(advice.hasSuggestion(), advice.toString());
+        Assert.assertEquals(advice.getStrategy(), "accessibility id");
+        Assert.assertEquals(advice.getValue(), "test-PRODUCTS");
+        Assert.assertEquals(advice.getSamples(), 1);
+        Assert.assertEquals(advice.toString(), "@AndroidFindBy(accessibility = \"test-PRODUCTS\") (validated on 1 page source(s))");
+    }
+
+    @Test
+    public void sharedContentDescFallsBackToUiSelector() {
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("xpath", TITLE_XPATH,
+                Collections.singletonList(screen(textView("PRODUCTS", "label"), textView("CART", "label"))));
+
+        Assert.assertEquals(advice.getStrategy(), "-android uiautomator");
+        Assert.assertEquals(advice.getValue(), "new UiSelector().className(\"android.widget.TextView\").text(\"PRODUCTS\")");
+    }
+
+    @Test
+    public void suggestionMustHoldInEverySample() {
+        // Benzersiz olduğu tek örnek yetmez / Unique in one sample is not enough
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("xpath", TITLE_XPATH, Arrays.asList(
+                screen(textView("PRODUCTS", "title")),
+                screen(textView("PRODUCTS", "title"), textView("Sauce Labs Backpack", "title"))));
+
+        Assert.assertNotEquals(advice.getStrategy(), "accessibility id");
+        Assert.assertEquals(advice.getSamples(), 2);
+    }
+
+    @Test
+    public void samplesWithoutAMatchAreIgnored() {
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("xpath", TITLE_XPATH, Arrays.asList(
+                screen(textView("PRODUCTS", "test-PRODUCTS")),
+                screen(textView("CHECKOUT: INFORMATION", "test-PRODUCTS"))));
+
+        Assert.assertEquals(advice.getValue(), "test-PRODUCTS");
+        Assert.assertEquals(advice.getSamples(), 1);
+    }
+
+    @Test
+    public void directLookupsNeedNoAdvice() {
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("accessibility id", "test-LOGIN", Collections.emptyList());
+
+        Assert.assertFalse(advice.hasSuggestion());
+        Assert.assertEquals(advice.toString(), "already a direct lookup");
+    }
+
+    @Test
+    public void unmatchedLocatorIsNotValidated() {
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("xpath", TITLE_XPATH,
+                Collections.singletonList(screen(textView("CART", "test-CART"))));
+
+        Assert.assertFalse(advice.hasSuggestion());
+        Assert.assertEquals(advice.toString(), "no captured page source matched; not validated");
+    }
+
+    @Test
+    public void locatorThatCannotBeEvaluatedLocally() {
+        LocatorAdvisor.Advice advice = LocatorAdvisor.advise("css selector", "#title", Collections.emptyList());
+
+        Assert.assertFalse(advice.hasSuggestion());
+        Assert.assertTrue(advice.toString().startsWith("cannot evaluate locally"), advice.toString());
+    }
+}
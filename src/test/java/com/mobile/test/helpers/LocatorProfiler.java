@@ -0,0 +1,229 @@
+package com.mobile.test.helpers;
+
+import com.mobile.test.driver.CommandListener;
+import com.mobile.test.driver.ObservingCommandExecutor;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lokatörlerin çalışma zamanı maliyetini ölçer ve daha ucuz eşdeğerler önerir
+ * Times every locator the pages look up, ranks them by total cost and suggests cheaper equivalents
+ *
+ * <p>Enabled with {@code locator.profile=true}. Each element lookup is attributed to the page
+ * field or constant that declares the locator ({@code @AndroidFindBy} fields and
+ * {@code static final String} XPath constants of the innermost page on the stack). For XPath
+ * and UiAutomator locators, up to {@link #MAX_SAMPLES} distinct page sources are captured
+ * through {@link PageSourceCache} while the locator is in use; {@link LocatorAdvisor} validates
+ * its suggestions against them.</p>
+ */
+public final class LocatorProfiler implements CommandListener {
+    static final int MAX_SAMPLES = 3;
+
+    private static final String PAGES_PACKAGE = "com.mobile.test.pages.";
+    private static final ConcurrentMap<Locator, Profile> PROFILES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Class<?>, Map<String, String>> DECLARED_LOCATORS = new ConcurrentHashMap<>();
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final AndroidDriver driver;
+    private final ThreadLocal<Boolean> sampling = ThreadLocal.withInitial(() -> false);
+
+    private LocatorProfiler(AndroidDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Starts profiling the lookups of the driver; it must use an {@link ObservingCommandExecutor}.
+     */
+    public static void attach(AndroidDriver driver) {
+        if (driver.getCommandExecutor() instanceof ObservingCommandExecutor) {
+            ((ObservingCommandExecutor) driver.getCommandExecutor()).addListener(new LocatorProfiler(driver));
+        }
+    }
+
+    public static boolean hasData() {
+        return !PROFILES.isEmpty();
+    }
+
+    @Override
+    public void afterCommand(Command command, long elapsedNanos, Throwable failure) {
+        String name = command.getName();
+        if (sampling.get() || !(DriverCommand.FIND_ELEMENT.equals(name) || DriverCommand.FIND_ELEMENTS.equals(name)
+                || DriverCommand.FIND_CHILD_ELEMENT.equals(name) || DriverCommand.FIND_CHILD_ELEMENTS.equals(name))) {
+            return;
+        }
+        Locator locator = new Locator(String.valueOf(command.getParameters().get("using")),
+                String.valueOf(command.getParameters().get("value")));
+        Profile profile = PROFILES.computeIfAbsent(locator, key -> new Profile());
+        profile.latency.recordNanos(elapsedNanos);
+        if (failure != null) {
+            profile.misses.incrementAndGet();
+        }
+        profile.declaredBy.putIfAbsent(describeCaller(locator), Boolean.TRUE);
+
+        boolean expensive = "xpath".equals(locator.using) || "-android uiautomator".equals(locator.using);
+        if (expensive && failure == null && profile.samples.size() < MAX_SAMPLES) {
+            sample(profile);
+        }
+    }
+
+    private void sample(Profile profile) {
+        sampling.set(true);
+        try {
+            PageSourceSnapshot snapshot = PageSourceCache.of(driver).get();
+            int hash = snapshot.getXml().hashCode();
+            if (profile.sampleHashes.add(hash)) {
+                profile.samples.add(snapshot);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Lokatör örneği alınamadı / Could not capture a locator sample: " + e.getMessage());
+        } finally {
+            sampling.set(false);
+        }
+    }
+
+    /**
+     * Name of the page field or constant that declares the locator, e.g. {@code ProductsPage.productItems}.
+     */
+    private static String describeCaller(Locator locator) {
+        Class<?> page = STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::getDeclaringClass)
+                .filter(type -> type.getName().startsWith(PAGES_PACKAGE)
+                        && !"BasePage".equals(type.getSimpleName()) && !"PageRegistry".equals(type.getSimpleName()))
+                .findFirst()
+                .orElse(null));
+        if (page == null) {
+            return "(outside pages)";
+        }
+        while (page.getEnclosingClass() != null) {
+            page = page.getEnclosingClass();
+        }
+        String field = DECLARED_LOCATORS.computeIfAbsent(page, LocatorProfiler::declaredLocators).get(locator.key());
+        return page.getSimpleName() + "." + (field != null ? field : "(inline)");
+    }
+
+    private static Map<String, String> declaredLocators(Class<?> page) {
+        Map<String, String> locators = new HashMap<>();
+        for (Class<?> type = page; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                AndroidFindBy findBy = field.getAnnotation(AndroidFindBy.class);
+                if (findBy != null) {
+                    Locator locator = fromAnnotation(findBy);
+                    if (locator != null) {
+                        locators.putIfAbsent(locator.key(), field.getName());
+                    }
+                } else if (Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers())
+                        && field.getType() == String.class) {
+                    try {
+                        field.setAccessible(true);
+                        Object value = field.get(null);
+                        if (value instanceof String && ((String) value).startsWith("/")) {
+                            locators.putIfAbsent(new Locator("xpath", (String) value).key(), field.getName());
+                        }
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        // Unreadable constants are simply not named
+                    }
+                }
+            }
+        }
+        return locators;
+    }
+
+    private static Locator fromAnnotation(AndroidFindBy findBy) {
+        if (!findBy.accessibility().isEmpty()) {
+            return new Locator("accessibility id", findBy.accessibility());
+        } else if (!findBy.xpath().isEmpty()) {
+            return new Locator("xpath", findBy.xpath());
+        } else if (!findBy.id().isEmpty()) {
+            return new Locator("id", findBy.id());
+        } else if (!findBy.uiAutomator().isEmpty()) {
+            return new Locator("-android uiautomator", findBy.uiAutomator());
+        } else if (!findBy.className().isEmpty()) {
+            return new Locator("class name", findBy.className());
+        }
+        return null;
+    }
+
+    /**
+     * Locators ranked by total lookup time, with the advisor's suggestion for each.
+     */
+    public static String report() {
+        List<Map.Entry<Locator, Profile>> entries = new ArrayList<>(PROFILES.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<Locator, Profile> e) -> e.getValue().latency.getTotalMillis()).reversed());
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Locator profile (ms), most expensive first\n");
+        int rank = 1;
+        for (Map.Entry<Locator, Profile> entry : entries) {
+            Locator locator = entry.getKey();
+            Profile profile = entry.getValue();
+            LatencyHistogram h = profile.latency;
+            sb.append(String.format("%2d. %s%n", rank++, String.join(", ", profile.declaredBy.keySet())));
+            sb.append(String.format("    %s: %s%n", locator.using, locator.value));
+            sb.append(String.format("    calls=%d misses=%d mean=%.1f p95=%.1f max=%.1f total=%.1f%n",
+                    h.getCount(), profile.misses.get(), h.getMeanMillis(), h.getPercentileMillis(95), h.getMaxMillis(), h.getTotalMillis()));
+            sb.append("    suggestion: ").append(LocatorAdvisor.advise(locator.using, locator.value, profile.samples)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    public static void writeReport(Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, report().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("⚠️ Failed to write locator profile: " + e.getMessage());
+        }
+    }
+
+    private static final class Profile {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong misses = new AtomicLong();
+        private final Map<String, Boolean> declaredBy = new ConcurrentHashMap<>();
+        private final List<PageSourceSnapshot> samples = new CopyOnWriteArrayList<>();
+        private final Set<Integer> sampleHashes = ConcurrentHashMap.newKeySet();
+    }
+
+    private static final class Locator {
+        private final String using;
+        private final String value;
+
+        private Locator(String using, String value) {
+            this.using = using;
+            this.value = value;
+        }
+
+        String key() {
+            return using + "=" + value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Locator && using.equals(((Locator) o).using) && value.equals(((Locator) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(using, value);
+        }
+    }
+}
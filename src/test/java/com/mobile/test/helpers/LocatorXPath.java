@@ -0,0 +1,97 @@
+package com.mobile.test.helpers;
+
+import org.openqa.selenium.By;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lokatörleri Android sayfa kaynağı üzerinde çalışan XPath ifadelerine çevirir
+ * Translates locators into XPath expressions over the Android page-source XML
+ */
+public final class LocatorXPath {
+    private static final Pattern UI_SELECTOR = Pattern.compile(
+            "\\.(description|descriptionContains|text|textContains|resourceId|className)\\(\"((?:[^\"\\\\]|\\\\.)*)\"\\)");
+
+    private LocatorXPath() {
+    }
+
+    public static String of(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Unsupported locator for local evaluation: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        return of(parameters.using(), String.valueOf(parameters.value()));
+    }
+
+    /**
+     * @param using W3C/Appium strategy name: xpath, accessibility id, id, class name or
+     *              -android uiautomator (description, text, resourceId and className selectors;
+     *              for a UiScrollable the last selector, i.e. the scroll target, is used)
+     */
+    public static String of(String using, String value) {
+        switch (using) {
+            case "xpath":
+                return value;
+            case "accessibility id":
+                return "//*[@content-desc=" + literal(value) + "]";
+            case "id":
+                return "//*[@resource-id=" + literal(value) + " or substring-after(@resource-id, ':id/')=" + literal(value) + "]";
+            case "class name":
+                return "//*[@class=" + literal(value) + "]";
+            case "-android uiautomator":
+                return ofUiSelector(value);
+            default:
+                throw new IllegalArgumentException("Unsupported locator strategy for local evaluation: " + using);
+        }
+    }
+
+    private static String ofUiSelector(String selector) {
+        // A UiScrollable wraps the container selector first and the target selector last
+        int target = selector.lastIndexOf("new UiSelector()");
+        Matcher matcher = UI_SELECTOR.matcher(target >= 0 ? selector.substring(target) : selector);
+        StringBuilder predicates = new StringBuilder();
+        while (matcher.find()) {
+            String value = literal(matcher.group(2).replace("\\\"", "\""));
+            String predicate;
+            switch (matcher.group(1)) {
+                case "description":
+                    predicate = "@content-desc=" + value;
+                    break;
+                case "descriptionContains":
+                    predicate = "contains(@content-desc, " + value + ")";
+                    break;
+                case "text":
+                    predicate = "@text=" + value;
+                    break;
+                case "textContains":
+                    predicate = "contains(@text, " + value + ")";
+                    break;
+                case "resourceId":
+                    predicate = "@resource-id=" + value;
+                    break;
+                default:
+                    predicate = "@class=" + value;
+                    break;
+            }
+            predicates.append('[').append(predicate).append(']');
+        }
+        if (predicates.length() == 0) {
+            throw new IllegalArgumentException("Unsupported UiSelector for local evaluation: " + selector);
+        }
+        return "//*" + predicates;
+    }
+
+    /**
+     * Quotes a value as an XPath 1.0 string literal.
+     */
+    public static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+}
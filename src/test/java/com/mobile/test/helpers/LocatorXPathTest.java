@@ -0,0 +1,82 @@
+package com.mobile.test.helpers;
+
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LocatorXPathTest {
+
+    @Test
+    public void literalWithoutQuotes() {
+        Assert.assertEquals(LocatorXPath.literal("test-LOGIN"), "'test-LOGIN'");
+    }
+
+    @Test
+    public void literalWithSingleQuotesUsesDoubleQuotes() {
+        Assert.assertEquals(LocatorXPath.literal("Sauce Labs' Backpack"), "\"Sauce Labs' Backpack\"");
+    }
+
+    @Test
+    public void literalWithBothQuoteKindsUsesConcat() {
+        Assert.assertEquals(LocatorXPath.literal("it's \"new\""), "concat('it', \"'\", 's \"new\"')");
+    }
+
+    @Test
+    public void literalWithBothQuoteKindsMatchesTheValue() {
+        PageSourceSnapshot snapshot = PageSourceSnapshot.parse("<hierarchy>"
+                + "<android.widget.TextView class=\"android.widget.TextView\" text=\"it's &quot;new&quot;\"/>"
+                + "<android.widget.TextView class=\"android.widget.TextView\" text=\"it's new\"/>"
+                + "</hierarchy>");
+
+        Assert.assertEquals(snapshot.evaluate("//*[@text=" + LocatorXPath.literal("it's \"new\"") + "]").getLength(), 1);
+    }
+
+    @Test
+    public void accessibilityId() {
+        Assert.assertEquals(LocatorXPath.of(AppiumBy.accessibilityId("test-LOGIN")), "//*[@content-desc='test-LOGIN']");
+    }
+
+    @Test
+    public void resourceIdMatchesFullAndShortForm() {
+        Assert.assertEquals(LocatorXPath.of(AppiumBy.id("cart")),
+                "//*[@resource-id='cart' or substring-after(@resource-id, ':id/')='cart']");
+    }
+
+    @Test
+    public void xpathIsUsedAsIs() {
+        String xpath = "//android.widget.TextView[@text='PRODUCTS']";
+        Assert.assertEquals(LocatorXPath.of(By.xpath(xpath)), xpath);
+    }
+
+    @Test
+    public void uiSelectorPredicatesAreChained() {
+        Assert.assertEquals(LocatorXPath.of(AppiumBy.androidUIAutomator(
+                        "new UiSelector().className(\"android.widget.TextView\").textContains(\"required\")")),
+                "//*[@class='android.widget.TextView'][contains(@text, 'required')]");
+    }
+
+    @Test
+    public void uiScrollableUsesTheScrollTarget() {
+        Assert.assertEquals(LocatorXPath.of(AppiumBy.androidUIAutomator(
+                        "new UiScrollable(new UiSelector().scrollable(true).instance(0))"
+                                + ".scrollIntoView(new UiSelector().description(\"test-FINISH\"))")),
+                "//*[@content-desc='test-FINISH']");
+    }
+
+    @Test
+    public void escapedQuotesInUiSelectorAreUnescaped() {
+        Assert.assertEquals(LocatorXPath.of(AppiumBy.androidUIAutomator("new UiSelector().text(\"say \\\"hi\\\"\")")),
+                "//*[@text='say \"hi\"']");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void unsupportedStrategyIsRejected() {
+        LocatorXPath.of("css selector", "#login");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void uiSelectorWithoutSupportedPredicateIsRejected() {
+        LocatorXPath.of(AppiumBy.androidUIAutomator("new UiSelector().scrollable(true)"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.mobile.test.helpers;
+
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Birden fazla yedek lokatörü tek sayfa kaynağı üzerinden çözen yardımcı sınıf
+ * Resolves a chain of fallback locators against a single page-source snapshot
+ *
+ * <p>Instead of probing every candidate on the device (each miss costing a round trip and
+ * possibly a full implicit timeout), the page source is fetched once (through the session's
+ * {@link PageSourceCache}), every candidate is
+ * evaluated locally in priority order, and only the winning node is fetched with one
+ * targeted {@code findElement}.</p>
+ */
+public class MultiLocator {
+    private static final Logger LOG = LogManager.getLogger(MultiLocator.class);
+    private final String name;
+    private final Map<By, String> candidates = new LinkedHashMap<>();
+
+    private MultiLocator(String name, List<By> locators) {
+        this.name = name;
+        for (By locator : locators) {
+            candidates.put(locator, LocatorXPath.of(locator));
+        }
+    }
+
+    /**
+     * @param name       name used in log output
+     * @param candidates locators in priority order; supported strategies are xpath,
+     *                   accessibility id, id and class name
+     */
+    public static MultiLocator of(String name, By... candidates) {
+        return new MultiLocator(name, Arrays.asList(candidates));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * True when any candidate matches a node of the snapshot, displayed or not (e.g. below the fold).
+     */
+    public boolean isPresent(PageSourceSnapshot snapshot) {
+        for (String xpath : candidates.values()) {
+            NodeList matches = snapshot.evaluate(xpath);
+            for (int i = 0; i < matches.getLength(); i++) {
+                if (matches.item(i) instanceof Element) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public List<By> getCandidates() {
+        return Collections.unmodifiableList(new ArrayList<>(candidates.keySet()));
+    }
+
+    /**
+     * Fetches the page source once and resolves the highest priority candidate that has a
+     * displayed match.
+     *
+     * @return the resolved element, or null if no candidate matches
+     */
+    public WebElement resolve(AndroidDriver driver) {
+        By target = pickTarget(PageSourceCache.of(driver).get());
+        if (target == null) {
+            LOG.debug("ℹ️ {}: no candidate matched the page source", name);
+            return null;
+        }
+        try {
+            WebElement element = driver.findElement(target);
+            LOG.debug("✅ {} resolved with {}", name, target);
+            return element;
+        } catch (NoSuchElementException e) {
+            // UI changed between the snapshot and the lookup
+            LOG.info("ℹ️ " + name + ": " + target + " disappeared before it could be resolved");
+            return null;
+        }
+    }
+
+    /**
+     * Evaluates the candidates against the given page source and returns the most specific
+     * locator that points at the winning node, or null when nothing matches.
+     */
+    public By pickTarget(String pageSource) {
+        return pickTarget(PageSourceSnapshot.parse(pageSource));
+    }
+
+    public By pickTarget(PageSourceSnapshot snapshot) {
+        for (Map.Entry<By, String> candidate : candidates.entrySet()) {
+            NodeList matches = snapshot.evaluate(candidate.getValue());
+            for (int i = 0; i < matches.getLength(); i++) {
+                if (!(matches.item(i) instanceof Element)) {
+                    continue;
+                }
+                Element node = (Element) matches.item(i);
+                if (isDisplayed(node)) {
+                    return targetFor(snapshot, candidate.getKey(), candidate.getValue(), node, i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prefers an accessibility id or resource id that uniquely identifies the node, falls back
+     * to the candidate itself when its first match is the node, and otherwise indexes into it.
+     */
+    private By targetFor(PageSourceSnapshot snapshot, By candidate, String xpath, Element node, int matchIndex) {
+        String contentDesc = node.getAttribute("content-desc");
+        if (!contentDesc.isEmpty() && snapshot.withContentDesc(contentDesc).size() == 1) {
+            return AppiumBy.accessibilityId(contentDesc);
+        }
+        String resourceId = node.getAttribute("resource-id");
+        if (!resourceId.isEmpty() && snapshot.withResourceId(resourceId).size() == 1) {
+            return AppiumBy.id(resourceId);
+        }
+        if (matchIndex == 0) {
+            return candidate;
+        }
+        return By.xpath("(" + xpath + ")[" + (matchIndex + 1) + "]");
+    }
+
+    private static boolean isDisplayed(Element node) {
+        String displayed = node.getAttribute("displayed");
+        return displayed.isEmpty() || Boolean.parseBoolean(displayed);
+    }
+}
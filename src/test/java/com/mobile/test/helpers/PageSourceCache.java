@@ -0,0 +1,168 @@
+package com.mobile.test.helpers;
+
+import com.mobile.test.driver.CommandListener;
+import com.mobile.test.driver.ObservingCommandExecutor;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Oturum başına sayfa kaynağı önbelleği
+ * Per-session page-source cache: the source is downloaded and parsed once per UI state
+ *
+ * <p>The cache listens to every command sent through the session's
+ * {@link ObservingCommandExecutor} and drops the snapshot as soon as a command that may change
+ * the UI (click, send keys, gestures, app lifecycle, scripts...) is executed. Read-only
+ * commands such as element lookups and attribute reads keep it alive. Drivers that were not
+ * created with an observing executor are never cached, since invalidation cannot be
+ * guaranteed for them.</p>
+ *
+ * <p>The app can also change on its own (animations, delayed validation messages), so a
+ * snapshot is never served for longer than {@value #MAX_AGE_MILLIS} ms. Polling loops that
+ * wait for such changes should call {@link #refresh()}.</p>
+ */
+public class PageSourceCache implements CommandListener {
+    static final long MAX_AGE_MILLIS = 1000;
+    private static final Map<AndroidDriver, PageSourceCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Set<String> READ_ONLY_COMMANDS = new HashSet<>(Arrays.asList(
+            DriverCommand.GET_PAGE_SOURCE,
+            DriverCommand.FIND_ELEMENT,
+            DriverCommand.FIND_ELEMENTS,
+            DriverCommand.FIND_CHILD_ELEMENT,
+            DriverCommand.FIND_CHILD_ELEMENTS,
+            DriverCommand.GET_ELEMENT_ATTRIBUTE,
+            DriverCommand.GET_ELEMENT_DOM_PROPERTY,
+            DriverCommand.GET_ELEMENT_TEXT,
+            DriverCommand.GET_ELEMENT_TAG_NAME,
+            DriverCommand.GET_ELEMENT_RECT,
+            DriverCommand.GET_ELEMENT_LOCATION,
+            DriverCommand.GET_ELEMENT_SIZE,
+            DriverCommand.IS_ELEMENT_DISPLAYED,
+            DriverCommand.IS_ELEMENT_ENABLED,
+            DriverCommand.IS_ELEMENT_SELECTED,
+            DriverCommand.SCREENSHOT,
+            DriverCommand.ELEMENT_SCREENSHOT,
+            DriverCommand.GET_CURRENT_WINDOW_SIZE,
+            DriverCommand.GET_TIMEOUTS,
+            DriverCommand.STATUS,
+            // MobileCommand adları korumalı / MobileCommand names are protected, so the wire names are spelled out
+            "isKeyboardShown",
+            "queryAppState"));
+
+    private final AndroidDriver driver;
+    private final boolean observed;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile PageSourceSnapshot snapshot;
+
+    private PageSourceCache(AndroidDriver driver) {
+        this.driver = driver;
+        this.observed = driver.getCommandExecutor() instanceof ObservingCommandExecutor;
+        if (observed) {
+            ((ObservingCommandExecutor) driver.getCommandExecutor()).addListener(this);
+        }
+    }
+
+    public static PageSourceCache of(AndroidDriver driver) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(driver, PageSourceCache::new);
+        }
+    }
+
+    /**
+     * Oturum kapanınca önbelleği bırakır / Drops the session's cache; the value holds the
+     * driver, so the weak key alone would never be collected.
+     */
+    public static void remove(AndroidDriver driver) {
+        CACHES.remove(driver);
+    }
+
+    /**
+     * Returns the snapshot of the current UI state, downloading it only if the UI may have
+     * changed since the last call.
+     */
+    public PageSourceSnapshot get() {
+        PageSourceSnapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.getCapturedAtNanos() < TimeUnit.MILLISECONDS.toNanos(MAX_AGE_MILLIS)) {
+            hits.incrementAndGet();
+            return current;
+        }
+        misses.incrementAndGet();
+        current = PageSourceSnapshot.parse(driver.getPageSource());
+        if (observed) {
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * The cached snapshot if it is still current, without downloading anything; null otherwise.
+     */
+    public PageSourceSnapshot peek() {
+        PageSourceSnapshot current = snapshot;
+        return current != null && System.nanoTime() - current.getCapturedAtNanos() < TimeUnit.MILLISECONDS.toNanos(MAX_AGE_MILLIS)
+                ? current : null;
+    }
+
+    /**
+     * Discards the cached snapshot and downloads a new one.
+     */
+    public PageSourceSnapshot refresh() {
+        invalidate();
+        return get();
+    }
+
+    /**
+     * Stores a page source that was just downloaded elsewhere as the current snapshot.
+     */
+    public void offer(String pageSource) {
+        if (observed) {
+            snapshot = PageSourceSnapshot.parse(pageSource);
+        }
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public void afterCommand(Command command, long elapsedNanos, Throwable failure) {
+        if (!isReadOnly(command)) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * True for commands that cannot change the UI; every other command, scripts included, may.
+     * Shared by the caches that must be dropped when the UI changes.
+     */
+    public static boolean isReadOnly(Command command) {
+        return READ_ONLY_COMMANDS.contains(command.getName()) && !scrolls(command);
+    }
+
+    /**
+     * A {@code UiScrollable} lookup scrolls the screen on the device while it searches.
+     */
+    private static boolean scrolls(Command command) {
+        Object using = command.getParameters().get("using");
+        return "-android uiautomator".equals(using) && String.valueOf(command.getParameters().get("value")).contains("UiScrollable");
+    }
+}
@@ -0,0 +1,176 @@
+package com.mobile.test.helpers;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bir UI durumunun ayrıştırılmış ve indekslenmiş sayfa kaynağı
+ * Parsed page source of one UI state, indexed by text, content-desc, resource-id and class
+ *
+ * <p>Immutable once built, so it can be shared between the threads that read it.</p>
+ */
+public class PageSourceSnapshot {
+    private final String xml;
+    private final Document document;
+    private final List<Element> elements = new ArrayList<>();
+    private final Map<String, List<Element>> byText = new HashMap<>();
+    private final Map<String, List<Element>> byContentDesc = new HashMap<>();
+    private final Map<String, List<Element>> byResourceId = new HashMap<>();
+    private final Map<String, List<Element>> byClass = new HashMap<>();
+    // Text and content-desc values in document order, with lower-cased copies for substring queries
+    private final List<String> searchableValues = new ArrayList<>();
+    private final List<String> lowerCaseValues = new ArrayList<>();
+    private final long capturedAt = System.nanoTime();
+    // XPath nesneleri thread-safe değil / XPath objects are not thread-safe, so evaluate() serializes on this one
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+
+    private PageSourceSnapshot(String xml, Document document) {
+        this.xml = xml;
+        this.document = document;
+        NodeList nodes = document.getElementsByTagName("*");
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Element element = (Element) nodes.item(i);
+            elements.add(element);
+            index(byText, element.getAttribute("text"), element);
+            index(byContentDesc, element.getAttribute("content-desc"), element);
+            index(byResourceId, element.getAttribute("resource-id"), element);
+            index(byClass, element.hasAttribute("class") ? element.getAttribute("class") : element.getTagName(), element);
+            addSearchable(element.getAttribute("text"));
+            addSearchable(element.getAttribute("content-desc"));
+        }
+    }
+
+    public static PageSourceSnapshot parse(String xml) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(false);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setXIncludeAware(false);
+            factory.setExpandEntityReferences(false);
+            Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+            return new PageSourceSnapshot(xml, document);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not parse page source", e);
+        }
+    }
+
+    public String getXml() {
+        return xml;
+    }
+
+    public Document getDocument() {
+        return document;
+    }
+
+    public List<Element> getElements() {
+        return Collections.unmodifiableList(elements);
+    }
+
+    public long getCapturedAtNanos() {
+        return capturedAt;
+    }
+
+    public List<Element> withText(String text) {
+        return lookup(byText, text);
+    }
+
+    public List<Element> withContentDesc(String contentDesc) {
+        return lookup(byContentDesc, contentDesc);
+    }
+
+    public List<Element> withResourceId(String resourceId) {
+        return lookup(byResourceId, resourceId);
+    }
+
+    public List<Element> withClass(String className) {
+        return lookup(byClass, className);
+    }
+
+    /**
+     * Case-insensitive substring search over every text and content-desc value.
+     */
+    public boolean containsText(String needle) {
+        return findText(needle).isPresent();
+    }
+
+    /**
+     * Returns true if any of the needles occurs in a text or content-desc value.
+     */
+    public boolean containsAnyText(String... needles) {
+        for (String needle : needles) {
+            if (containsText(needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first text or content-desc value that contains the needle, ignoring case.
+     */
+    public Optional<String> findText(String needle) {
+        String lowerNeedle = needle.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lowerCaseValues.size(); i++) {
+            if (lowerCaseValues.get(i).contains(lowerNeedle)) {
+                return Optional.of(searchableValues.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Evaluates an XPath over the snapshot. XPath evaluation is not thread-safe on a shared
+     * DOM, so calls are serialized per snapshot.
+     */
+    public NodeList evaluate(String expression) {
+        return evaluate(document, expression);
+    }
+
+    /**
+     * Evaluates an XPath relative to a node of this snapshot.
+     */
+    public synchronized NodeList evaluate(Node context, String expression) {
+        try {
+            return (NodeList) xpath.evaluate(expression, context, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath: " + expression, e);
+        }
+    }
+
+    private void addSearchable(String value) {
+        if (!value.isEmpty()) {
+            searchableValues.add(value);
+            lowerCaseValues.add(value.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static void index(Map<String, List<Element>> index, String key, Element element) {
+        if (!key.isEmpty()) {
+            index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(element);
+        }
+    }
+
+    private static List<Element> lookup(Map<String, List<Element>> index, String key) {
+        List<Element> matches = index.get(key);
+        return matches != null ? Collections.unmodifiableList(matches) : Collections.emptyList();
+    }
+}
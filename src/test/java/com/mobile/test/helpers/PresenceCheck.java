@@ -0,0 +1,137 @@
+package com.mobile.test.helpers;
+
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Elementin şu anda ekranda olup olmadığını beklemeden söyler
+ * Answers "is it on screen right now?" without sitting out a lookup timeout
+ *
+ * <p>Page fields are proxies that retry an absent element for the whole decorator timeout
+ * (10-15 s), so every negative check through them costs that timeout. Presence checks go
+ * around the proxy: one locator is looked up with {@code findElements} while the driver's
+ * implicit wait is zero, several locators are evaluated together against one page-source
+ * snapshot from {@link PageSourceCache}.</p>
+ */
+public class PresenceCheck {
+    private static final ConcurrentMap<Field, Optional<By>> FIELD_LOCATORS = new ConcurrentHashMap<>();
+
+    private final AndroidDriver driver;
+    // Read once per session; the framework never changes the implicit wait afterwards
+    private volatile Duration implicitWait;
+
+    public PresenceCheck(AndroidDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * One zero-wait lookup; true if any match is displayed.
+     */
+    public boolean isDisplayedNow(By locator) {
+        for (WebElement element : findNow(locator)) {
+            try {
+                if (element.isDisplayed()) {
+                    return true;
+                }
+            } catch (StaleElementReferenceException e) {
+                // Gone between the lookup and the check
+            }
+        }
+        return false;
+    }
+
+    public boolean isPresentNow(By locator) {
+        return !findNow(locator).isEmpty();
+    }
+
+    /**
+     * True if any of the locators matches a displayed node of the session's current
+     * page-source snapshot; one page-source read at most, however many locators.
+     */
+    public boolean anyDisplayedNow(By... locators) {
+        return anyDisplayed(PageSourceCache.of(driver).get(), locators);
+    }
+
+    public static boolean anyDisplayed(PageSourceSnapshot snapshot, By... locators) {
+        for (By locator : locators) {
+            NodeList matches = snapshot.evaluate(LocatorXPath.of(locator));
+            for (int i = 0; i < matches.getLength(); i++) {
+                if (matches.item(i) instanceof Element) {
+                    String displayed = ((Element) matches.item(i)).getAttribute("displayed");
+                    if (displayed.isEmpty() || Boolean.parseBoolean(displayed)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code findElements} with the implicit wait dropped to zero for the call.
+     */
+    public List<WebElement> findNow(By locator) {
+        Duration implicit = implicitWait();
+        if (implicit.isZero()) {
+            return driver.findElements(locator);
+        }
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return driver.findElements(locator);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicit);
+        }
+    }
+
+    private Duration implicitWait() {
+        Duration implicit = implicitWait;
+        if (implicit == null) {
+            try {
+                implicit = driver.manage().timeouts().getImplicitWaitTimeout();
+            } catch (WebDriverException e) {
+                implicit = Duration.ZERO;
+            }
+            implicitWait = implicit;
+        }
+        return implicit;
+    }
+
+    /**
+     * Locator declared by a page field's {@code @AndroidFindBy}, or null if it has none.
+     */
+    public static By locatorOf(Field field) {
+        return FIELD_LOCATORS.computeIfAbsent(field, key -> Optional.ofNullable(fromAnnotation(key.getAnnotation(AndroidFindBy.class))))
+                .orElse(null);
+    }
+
+    private static By fromAnnotation(AndroidFindBy findBy) {
+        if (findBy == null) {
+            return null;
+        } else if (!findBy.accessibility().isEmpty()) {
+            return AppiumBy.accessibilityId(findBy.accessibility());
+        } else if (!findBy.xpath().isEmpty()) {
+            return By.xpath(findBy.xpath());
+        } else if (!findBy.id().isEmpty()) {
+            return AppiumBy.id(findBy.id());
+        } else if (!findBy.uiAutomator().isEmpty()) {
+            return AppiumBy.androidUIAutomator(findBy.uiAutomator());
+        } else if (!findBy.className().isEmpty()) {
+            return AppiumBy.className(findBy.className());
+        }
+        return null;
+    }
+}
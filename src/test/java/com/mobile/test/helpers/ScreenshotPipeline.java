@@ -0,0 +1,426 @@
+package com.mobile.test.helpers;
+
+import com.mobile.test.config.ConfigManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ekran görüntülerini test iş parçacığı dışında alan, sıkıştıran ve rapora ekleyen hat
+ * Pipeline that captures, compresses and attaches screenshots off the test thread
+ *
+ * <p>In {@link Mode#ASYNC} mode a capture request only enqueues a task on a bounded executor
+ * and returns immediately; the worker downloads the screenshot, re-encodes it and keeps the
+ * result until {@link #flush()} attaches everything the calling thread requested to Allure,
+ * in request order. When the queue is full the request runs on the caller, which throttles
+ * tests that produce screenshots faster than the device can serve them.</p>
+ *
+ * <p>The worker talks to the same session as the test, so an asynchronous screenshot shows
+ * the screen a few milliseconds after the request rather than at the exact moment. Use
+ * {@code screenshot.mode=sync} when that matters.</p>
+ *
+ * <p>Images are content-addressed: the worker hashes each image and the results directory
+ * keeps one {@code <hash>-attachment.<ext>} file per distinct image. Every screenshot still
+ * shows up in the test as a step of its own, but repeated screens (an error check followed by
+ * "error displayed", identical teardown screens across tests) point at the stored file instead
+ * of writing and shipping another copy. This exact dedupe is the default.</p>
+ *
+ * <p>{@code screenshot.dedupe=perceptual} is opt-in. It also merges screens whose 64-bit
+ * difference hash matches, which hides status bar clock changes but can equally hide a small
+ * error banner or a changed cart badge: the report then shows the earlier screen. Use it only
+ * where the stored size matters more than those details.</p>
+ *
+ * <p>Configuration: {@code screenshot.mode} (async | sync), {@code screenshot.policy}
+ * (always | on-failure | sampled), {@code screenshot.sample.every}, {@code screenshot.format}
+ * (jpg | png), {@code screenshot.jpeg.quality}, {@code screenshot.dedupe}
+ * (exact | perceptual | off), {@code screenshot.threads}, {@code screenshot.queue.capacity} and
+ * {@code screenshot.flush.timeout.seconds}.</p>
+ */
+public class ScreenshotPipeline {
+    public enum Mode { ASYNC, SYNC }
+
+    public enum Dedupe {
+        /** Same encoded bytes */
+        EXACT,
+        /** Same difference hash of the downscaled grayscale image; may merge screens that differ in a small banner */
+        PERCEPTUAL,
+        /** Every screenshot is a separate attachment */
+        OFF
+    }
+
+    public enum Policy {
+        /** Every request is captured */
+        ALWAYS,
+        /** Only forced captures (failures) are taken */
+        ON_FAILURE,
+        /** The first request of a test and then every n-th one are captured */
+        SAMPLED
+    }
+
+    private static final Logger LOG = LogManager.getLogger(ScreenshotPipeline.class);
+    private static ScreenshotPipeline instance;
+
+    private final Mode mode;
+    private final Policy policy;
+    private final int sampleEvery;
+    private final boolean jpeg;
+    private final float jpegQuality;
+    private final Dedupe dedupe;
+    private final Path resultsDir;
+    // İçerik adresi -> ilk ekran görüntüsünün adı / Stored attachment file -> name of the first screenshot that produced it
+    private final ConcurrentMap<String, String> stored = new ConcurrentHashMap<>();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicLong bytesSaved = new AtomicLong();
+    private final long flushTimeoutSeconds;
+    private final ThreadPoolExecutor executor;
+    private final ThreadLocal<TestScreenshots> current = ThreadLocal.withInitial(TestScreenshots::new);
+    private final AtomicInteger captured = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final AtomicInteger callerRuns = new AtomicInteger();
+
+    private ScreenshotPipeline(ConfigManager config) {
+        this.mode = Mode.valueOf(config.getProperty("screenshot.mode", "async").toUpperCase(Locale.ROOT));
+        this.policy = Policy.valueOf(config.getProperty("screenshot.policy", "always").toUpperCase(Locale.ROOT).replace('-', '_'));
+        this.sampleEvery = Math.max(1, config.getIntProperty("screenshot.sample.every", 3));
+        this.jpeg = !"png".equalsIgnoreCase(config.getProperty("screenshot.format", "jpg"));
+        this.jpegQuality = Float.parseFloat(config.getProperty("screenshot.jpeg.quality", "0.7"));
+        this.dedupe = Dedupe.valueOf(config.getProperty("screenshot.dedupe", "exact").toUpperCase(Locale.ROOT));
+        this.resultsDir = Paths.get(System.getProperty("allure.results.directory", "allure-results"));
+        this.flushTimeoutSeconds = config.getIntProperty("screenshot.flush.timeout.seconds", 30);
+
+        int threads = Math.max(1, config.getIntProperty("screenshot.threads", 2));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getIntProperty("screenshot.queue.capacity", 16))),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    callerRuns.incrementAndGet();
+                    if (!pool.isShutdown()) {
+                        runnable.run();
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        LOG.info("📸 Screenshot pipeline: mode=" + mode + ", policy=" + policy
+                + (policy == Policy.SAMPLED ? ", every=" + sampleEvery : "") + ", format=" + (jpeg ? "jpg" : "png")
+                + ", dedupe=" + dedupe);
+    }
+
+    public static synchronized ScreenshotPipeline getInstance() {
+        if (instance == null) {
+            instance = new ScreenshotPipeline(ConfigManager.getInstance());
+        }
+        return instance;
+    }
+
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Requests a screenshot, subject to the configured policy.
+     */
+    public void request(TakesScreenshot driver, String name) {
+        submit(driver, name, false);
+    }
+
+    /**
+     * Requests a screenshot regardless of the policy, e.g. for a failure.
+     */
+    public void requestForced(TakesScreenshot driver, String name) {
+        submit(driver, name, true);
+    }
+
+    private void submit(TakesScreenshot driver, String name, boolean forced) {
+        if (driver == null) {
+            return;
+        }
+        TestScreenshots test = current.get();
+        int index = test.requests++;
+        if (!forced && !shouldCapture(index)) {
+            skipped.incrementAndGet();
+            return;
+        }
+        LOG.info("📸 Taking screenshot: " + name);
+        if (mode == Mode.SYNC) {
+            test.pending.add(new Pending(name, null, capture(driver, name)));
+        } else {
+            test.pending.add(new Pending(name, executor.submit(() -> capture(driver, name)), null));
+        }
+    }
+
+    private boolean shouldCapture(int index) {
+        switch (policy) {
+            case ALWAYS:
+                return true;
+            case SAMPLED:
+                return index % sampleEvery == 0;
+            default:
+                return false;
+        }
+    }
+
+    private Screenshot capture(TakesScreenshot driver, String name) {
+        try {
+            byte[] png = driver.getScreenshotAs(OutputType.BYTES);
+            captured.incrementAndGet();
+            BufferedImage image = jpeg || dedupe == Dedupe.PERCEPTUAL ? ImageIO.read(new ByteArrayInputStream(png)) : null;
+            byte[] bytes = png;
+            String type = "image/png";
+            String extension = ".png";
+            if (jpeg && image != null) {
+                bytes = toJpeg(image, png.length);
+                type = "image/jpeg";
+                extension = ".jpg";
+            }
+            return new Screenshot(bytes, type, extension, contentKey(bytes, image));
+        } catch (Exception e) {
+            LOG.warn("⚠️ Failed to take screenshot " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] toJpeg(BufferedImage source, int pngLength) throws IOException {
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(source, 0, 0, null);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(pngLength / 4);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Content address of the image, or null when deduplication is off.
+     */
+    private String contentKey(byte[] bytes, BufferedImage image) throws NoSuchAlgorithmException {
+        if (dedupe == Dedupe.PERCEPTUAL && image != null) {
+            return "dhash-" + String.format("%016x", differenceHash(image));
+        }
+        if (dedupe == Dedupe.OFF) {
+            return null;
+        }
+        StringBuilder hex = new StringBuilder("sha256-");
+        for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * 64-bit dHash: the image is shrunk to 9x8 grayscale pixels and each bit tells whether a
+     * pixel is brighter than its right neighbour.
+     */
+    static long differenceHash(BufferedImage image) {
+        BufferedImage small = new BufferedImage(9, 8, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = small.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, 9, 8, null);
+        graphics.dispose();
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                hash = (hash << 1) | (small.getRaster().getSample(x, y, 0) > small.getRaster().getSample(x + 1, y, 0) ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Waits for the calling thread's screenshots and attaches them to the current Allure test
+     * or fixture in request order. Must run before the thread's driver is returned to the pool.
+     */
+    public void flush() {
+        TestScreenshots test = current.get();
+        current.remove();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(flushTimeoutSeconds);
+        for (Pending pending : test.pending) {
+            Screenshot screenshot = pending.await(deadline);
+            if (screenshot != null) {
+                attach(pending.name, screenshot);
+            }
+        }
+    }
+
+    /**
+     * Ekran görüntüsünü hemen alır ve ekler / Captures and attaches a screenshot on the calling
+     * thread, bypassing the queue and the policy (e.g. at suite teardown)
+     */
+    public void captureNow(TakesScreenshot driver, String name) {
+        if (driver == null) {
+            return;
+        }
+        LOG.info("📸 Taking screenshot: " + name);
+        Screenshot screenshot = capture(driver, name);
+        if (screenshot != null) {
+            attach(name, screenshot);
+        }
+    }
+
+    /**
+     * Stores the image once under its content address and adds a step that points at it.
+     */
+    private void attach(String name, Screenshot screenshot) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (screenshot.key == null) {
+            lifecycle.addAttachment("Screenshot - " + name, screenshot.type, screenshot.extension, screenshot.bytes);
+            return;
+        }
+        String source = screenshot.key + "-attachment" + screenshot.extension;
+        String first = stored.putIfAbsent(source, name);
+        if (first == null) {
+            try {
+                Files.createDirectories(resultsDir);
+                Files.write(resultsDir.resolve(source), screenshot.bytes);
+            } catch (IOException e) {
+                stored.remove(source);
+                LOG.warn("⚠️ Failed to store screenshot " + name + ": " + e.getMessage());
+                return;
+            }
+        } else {
+            duplicates.incrementAndGet();
+            bytesSaved.addAndGet(screenshot.bytes.length);
+        }
+
+        String attachmentName = "Screenshot - " + name + (first == null || first.equals(name) ? "" : " (same as " + first + ")");
+        String step = UUID.randomUUID().toString();
+        lifecycle.startStep(step, new StepResult().setName("Screenshot - " + name).setStatus(Status.PASSED));
+        lifecycle.updateStep(step, result -> result.getAttachments().add(
+                new Attachment().setName(attachmentName).setType(screenshot.type).setSource(source)));
+        lifecycle.stopStep(step);
+    }
+
+    /**
+     * Drops the calling thread's requests without attaching them.
+     */
+    public void discard() {
+        for (Pending pending : current.get().pending) {
+            if (pending.future != null) {
+                pending.future.cancel(false);
+            }
+        }
+        current.remove();
+    }
+
+    /**
+     * Stops the workers and forgets this instance, so the next {@link #getInstance()} builds a
+     * fresh pipeline: a reused fork runs several test classes, each as a suite of its own.
+     */
+    public void shutdown() {
+        synchronized (ScreenshotPipeline.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(flushTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        LOG.info("📸 Screenshots captured: " + captured.get() + ", skipped by policy: " + skipped.get()
+                + ", run on caller (queue full): " + callerRuns.get() + ", stored: " + stored.size()
+                + ", duplicates: " + duplicates.get() + " (" + bytesSaved.get() / 1024 + " KB not written)");
+    }
+
+    private static final class TestScreenshots {
+        private final List<Pending> pending = new ArrayList<>();
+        private int requests;
+    }
+
+    private static final class Pending {
+        private final String name;
+        private final Future<Screenshot> future;
+        private final Screenshot done;
+
+        private Pending(String name, Future<Screenshot> future, Screenshot done) {
+            this.name = name;
+            this.future = future;
+            this.done = done;
+        }
+
+        private Screenshot await(long deadlineNanos) {
+            if (future == null) {
+                return done;
+            }
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                LOG.warn("⚠️ Screenshot " + name + " was not ready in time, dropping it");
+            } catch (ExecutionException e) {
+                LOG.warn("⚠️ Failed to take screenshot " + name + ": " + e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private static final class Screenshot {
+        private final byte[] bytes;
+        private final String type;
+        private final String extension;
+        private final String key;
+
+        private Screenshot(byte[] bytes, String type, String extension, String key) {
+            this.bytes = bytes;
+            this.type = type;
+            this.extension = extension;
+            this.key = key;
+        }
+    }
+}
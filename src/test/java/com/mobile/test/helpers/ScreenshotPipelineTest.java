@@ -0,0 +1,26 @@
+package com.mobile.test.helpers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Bir çatalda art arda çalışan suite'ler canlı bir hat almalı
+ * Suites that run one after another in a reused fork must each get a live pipeline
+ */
+public class ScreenshotPipelineTest {
+
+    @Test
+    public void shutdownReleasesTheInstance() {
+        ScreenshotPipeline first = ScreenshotPipeline.getInstance();
+        first.shutdown();
+        Assert.assertFalse(ScreenshotPipeline.isInitialized(), "Shut-down pipeline is still the shared instance");
+
+        ScreenshotPipeline second = ScreenshotPipeline.getInstance();
+        Assert.assertNotSame(second, first);
+
+        // Geç kalan ikinci kapatma yeni örneği bırakmamalı / A late second shutdown must not drop the new instance
+        first.shutdown();
+        Assert.assertSame(ScreenshotPipeline.getInstance(), second);
+        second.shutdown();
+    }
+}
@@ -0,0 +1,199 @@
+package com.mobile.test.helpers;
+
+import com.google.common.collect.ImmutableMap;
+import com.mobile.test.config.ConfigManager;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+/**
+ * Elementi sunucu tarafında tek çağrıyla görünür alana kaydırır
+ * Brings an element into view with one server-side scroll instead of swipe-and-search round trips
+ *
+ * <p>An element that is already displayed costs one lookup. Otherwise a single
+ * {@code UiScrollable.scrollIntoView} lookup lets UiAutomator scroll and search on the device.
+ * Locators that have no {@code UiSelector} equivalent (XPath) and targets the UiScrollable did
+ * not bring fully on screen fall back to at most {@code scroll.max.swipes}
+ * {@code mobile: scrollGesture} calls, or W3C swipes where that script is unavailable. The
+ * fallback stops early when the container reports it cannot scroll further or a swipe leaves
+ * the hierarchy unchanged, so it never keeps swiping past the end of the list. The limit is read
+ * per instance from the {@link ConfigManager} passed to the constructor.</p>
+ */
+public class Scroller {
+    private static final Logger LOG = LogManager.getLogger(Scroller.class);
+    static final int DEFAULT_MAX_SWIPES = 5;
+    private static final Duration SWIPE_DURATION = Duration.ofMillis(500);
+    private static final String SCROLLABLE = "new UiScrollable(new UiSelector().scrollable(true).instance(0))";
+
+    private final AndroidDriver driver;
+    private final WaitHelper waitHelper;
+    private final PresenceCheck presence;
+    private final int maxSwipes;
+    private volatile boolean gestureScriptUnsupported;
+
+    /**
+     * Uses the default swipe limit; reads no configuration.
+     */
+    public Scroller(AndroidDriver driver, WaitHelper waitHelper, PresenceCheck presence) {
+        this(driver, waitHelper, presence, DEFAULT_MAX_SWIPES);
+    }
+
+    /**
+     * Takes the swipe limit from {@code scroll.max.swipes}.
+     */
+    public Scroller(AndroidDriver driver, WaitHelper waitHelper, PresenceCheck presence, ConfigManager config) {
+        this(driver, waitHelper, presence, config.getIntProperty("scroll.max.swipes", DEFAULT_MAX_SWIPES));
+    }
+
+    private Scroller(AndroidDriver driver, WaitHelper waitHelper, PresenceCheck presence, int maxSwipes) {
+        this.driver = driver;
+        this.waitHelper = waitHelper;
+        this.presence = presence;
+        this.maxSwipes = maxSwipes;
+    }
+
+    /**
+     * @return the displayed element
+     * @throws NoSuchElementException if it is still not displayed after the bounded fallback
+     */
+    public WebElement scrollIntoView(By target) {
+        return scrollIntoView(target.toString(), uiSelectorOf(target), () -> displayedNow(target));
+    }
+
+    /**
+     * Scrolls until one of the candidates is displayed; the UiScrollable searches for the first
+     * candidate that has a {@code UiSelector} equivalent.
+     */
+    public WebElement scrollIntoView(MultiLocator target) {
+        String selector = null;
+        for (By candidate : target.getCandidates()) {
+            selector = uiSelectorOf(candidate);
+            if (selector != null) {
+                break;
+            }
+        }
+        return scrollIntoView(target.getName(), selector, () -> target.resolve(driver));
+    }
+
+    private WebElement scrollIntoView(String name, String selector, Supplier<WebElement> displayed) {
+        WebElement element = displayed.get();
+        if (element != null) {
+            return element;
+        }
+
+        if (selector != null) {
+            try {
+                element = driver.findElement(AppiumBy.androidUIAutomator(
+                        SCROLLABLE + ".setMaxSearchSwipes(" + maxSwipes + ").scrollIntoView(" + selector + ")"));
+                if (element.isDisplayed()) {
+                    LOG.debug("⏬ {} scrolled into view by UiScrollable", name);
+                    return element;
+                }
+            } catch (WebDriverException e) {
+                LOG.debug("ℹ️ UiScrollable did not reach {}: {}", name, e.getMessage());
+            }
+            element = displayed.get();
+            if (element != null) {
+                return element;
+            }
+        }
+
+        for (int swipe = 1; swipe <= maxSwipes; swipe++) {
+            boolean canScrollMore = swipeUp();
+            waitHelper.waitForUiStable();
+            element = displayed.get();
+            if (element != null) {
+                LOG.debug("⏬ {} displayed after {} fallback swipe(s)", name, swipe);
+                return element;
+            }
+            if (!canScrollMore) {
+                break;
+            }
+        }
+        throw new NoSuchElementException("Could not scroll " + name + " into view");
+    }
+
+    private WebElement displayedNow(By target) {
+        for (WebElement element : presence.findNow(target)) {
+            if (element.isDisplayed()) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Scrolls the content one page down (finger moves up).
+     *
+     * @return false when the end of the content has been reached
+     */
+    private boolean swipeUp() {
+        Dimension size = driver.manage().window().getSize();
+        if (!gestureScriptUnsupported) {
+            try {
+                Object canScrollMore = driver.executeScript("mobile: scrollGesture", ImmutableMap.of(
+                        "left", size.getWidth() / 10, "top", size.getHeight() / 5,
+                        "width", size.getWidth() * 8 / 10, "height", size.getHeight() * 3 / 5,
+                        "direction", "down", "percent", 1.0));
+                return !Boolean.FALSE.equals(canScrollMore);
+            } catch (WebDriverException e) {
+                LOG.info("ℹ️ mobile: scrollGesture unavailable, falling back to W3C swipes: " + e.getMessage());
+                gestureScriptUnsupported = true;
+            }
+        }
+
+        // Aşırı kaydırma koruması: kaydırma hiyerarşiyi değiştirmediyse liste sonuna gelinmiştir
+        // Overscroll guard: a swipe that leaves the hierarchy unchanged has hit the end of the list
+        PageSourceCache sources = PageSourceCache.of(driver);
+        String before = sources.get().getXml();
+        int x = size.getWidth() / 2;
+        PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+        Sequence swipe = new Sequence(finger, 1)
+                .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, size.getHeight() * 7 / 10))
+                .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                .addAction(finger.createPointerMove(SWIPE_DURATION, PointerInput.Origin.viewport(), x, size.getHeight() * 3 / 10))
+                .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        driver.perform(Collections.singletonList(swipe));
+        return !before.equals(sources.refresh().getXml());
+    }
+
+    /**
+     * {@code UiSelector} for the locator, or null when it has no equivalent (XPath, or a short
+     * resource id without its package).
+     */
+    static String uiSelectorOf(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "accessibility id":
+                return "new UiSelector().description(" + quote(value) + ")";
+            case "id":
+                return value.contains(":id/") ? "new UiSelector().resourceId(" + quote(value) + ")" : null;
+            case "class name":
+                return "new UiSelector().className(" + quote(value) + ")";
+            case "-android uiautomator":
+                return value.startsWith("new UiSelector()") ? value : null;
+            default:
+                return null;
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
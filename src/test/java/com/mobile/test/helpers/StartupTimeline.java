@@ -0,0 +1,111 @@
+package com.mobile.test.helpers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Suit başlangıcındaki adımların zaman çizelgesi
+ * Timeline of the suite's startup steps, with the critical path that bounds startup time
+ *
+ * <p>Each step is timed on the thread that runs it and names the steps it waited for. The
+ * critical path is walked back from the step that finished last, always through the
+ * dependency that finished last; shortening anything off that path does not shorten
+ * startup.</p>
+ */
+public final class StartupTimeline {
+    private static final int BAR_WIDTH = 40;
+
+    private final long origin = System.nanoTime();
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+
+    public void run(String name, Runnable task, String... dependsOn) {
+        call(name, () -> {
+            task.run();
+            return null;
+        }, dependsOn);
+    }
+
+    public <T> T call(String name, Supplier<T> task, String... dependsOn) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            steps.put(name, new Step(name, Thread.currentThread().getName(), start - origin, System.nanoTime() - origin, dependsOn));
+        }
+    }
+
+    public List<String> criticalPath() {
+        List<String> path = new ArrayList<>();
+        Step current = steps.values().stream().max(Comparator.comparingLong(step -> step.end)).orElse(null);
+        while (current != null && !path.contains(current.name)) {
+            path.add(current.name);
+            Step latest = null;
+            for (String dependency : current.dependsOn) {
+                Step step = steps.get(dependency);
+                if (step != null && (latest == null || step.end > latest.end)) {
+                    latest = step;
+                }
+            }
+            current = latest;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    public String report() {
+        List<Step> ordered = new ArrayList<>(steps.values());
+        ordered.sort(Comparator.comparingLong((Step step) -> step.start).thenComparing(step -> step.name));
+        long wall = ordered.stream().mapToLong(step -> step.end).max().orElse(0);
+        List<String> critical = criticalPath();
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Startup timeline (ms), wall=%.0f%n", wall / 1e6));
+        for (Step step : ordered) {
+            int from = wall > 0 ? (int) (step.start * BAR_WIDTH / wall) : 0;
+            int to = wall > 0 ? (int) Math.max(from + 1, step.end * BAR_WIDTH / wall) : 1;
+            StringBuilder bar = new StringBuilder();
+            for (int i = 0; i < BAR_WIDTH; i++) {
+                bar.append(i >= from && i < to ? '#' : '.');
+            }
+            sb.append(String.format("%s %-32s %7.0f +%7.0f  %s [%s]%n",
+                    critical.contains(step.name) ? "*" : " ", step.name, step.start / 1e6, (step.end - step.start) / 1e6,
+                    bar, step.thread));
+        }
+        sb.append("critical path (*): ").append(String.join(" -> ", critical)).append('\n');
+        return sb.toString();
+    }
+
+    public void writeReport(Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, report().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("⚠️ Failed to write startup timeline: " + e.getMessage());
+        }
+    }
+
+    private static final class Step {
+        private final String name;
+        private final String thread;
+        private final long start;
+        private final long end;
+        private final String[] dependsOn;
+
+        private Step(String name, String thread, long start, long end, String[] dependsOn) {
+            this.name = name;
+            this.thread = thread;
+            this.start = start;
+            this.end = end;
+            this.dependsOn = dependsOn;
+        }
+    }
+}
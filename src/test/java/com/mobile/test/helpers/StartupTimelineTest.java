@@ -0,0 +1,55 @@
+package com.mobile.test.helpers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class StartupTimelineTest {
+
+    private static Runnable pause(long millis) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    @Test
+    public void criticalPathFollowsTheDependencyThatFinishedLast() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.run("config", pause(2));
+        timeline.run("allure.cleanup", pause(2), "config");
+        timeline.run("driver.create", pause(2), "config");
+        timeline.run("login", pause(2), "driver.create", "allure.cleanup");
+
+        Assert.assertEquals(timeline.criticalPath(), Arrays.asList("config", "driver.create", "login"));
+    }
+
+    @Test
+    public void missingDependencyEndsThePath() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.run("driver.create", pause(2), "appium.start");
+
+        Assert.assertEquals(timeline.criticalPath(), Collections.singletonList("driver.create"));
+    }
+
+    @Test
+    public void selfDependencyDoesNotLoop() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.run("config", pause(2), "config");
+
+        Assert.assertEquals(timeline.criticalPath(), Collections.singletonList("config"));
+    }
+
+    @Test
+    public void emptyTimelineHasNoCriticalPath() {
+        StartupTimeline timeline = new StartupTimeline();
+
+        Assert.assertTrue(timeline.criticalPath().isEmpty());
+        Assert.assertTrue(timeline.report().contains("critical path (*): \n"), timeline.report());
+    }
+}
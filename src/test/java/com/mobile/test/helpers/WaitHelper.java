@@ -1,49 +1,217 @@
 package com.mobile.test.helpers;
 
+import com.mobile.test.config.ConfigManager;
 import io.appium.java_client.android.AndroidDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+/**
+ * Koşul sağlanır sağlanmaz dönen, artan aralıklarla yoklama yapan bekleme motoru
+ * Wait engine that polls with exponential back-off and returns as soon as the condition holds
+ *
+ * <p>Polling starts at {@value #INITIAL_POLL_MILLIS} ms and grows by a factor of
+ * {@value #BACKOFF_FACTOR} up to {@value #MAX_POLL_MILLIS} ms, so conditions that are already
+ * (or almost) true cost one or two round trips instead of a fixed sleep. Every named wait is
+ * recorded in {@link WaitStats}.</p>
+ *
+ * <p>{@link #waitForUiStable()} replaces fixed post-action sleeps: it samples a fingerprint of
+ * the UI hierarchy every {@code ui.stable.poll.ms} and returns once two consecutive samples
+ * match, or after {@code ui.stable.timeout.ms}. Both are read per instance from the
+ * {@link ConfigManager} passed to the constructor, so the class itself never touches the
+ * configuration.</p>
+ */
 public class WaitHelper {
+    static final long INITIAL_POLL_MILLIS = 50;
+    static final double BACKOFF_FACTOR = 1.5;
+    static final long MAX_POLL_MILLIS = 500;
+    static final int DEFAULT_UI_STABLE_POLL_MILLIS = 200;
+    static final int DEFAULT_UI_STABLE_TIMEOUT_MILLIS = 3000;
+    // Layout and content only; focus, selection and similar flags do not make a screen "busy"
+    private static final Pattern FINGERPRINT_ATTRIBUTES = Pattern.compile("\\b(?:class|bounds|text|content-desc|displayed)=\"([^\"]*)\"");
+
     private final AndroidDriver driver;
-    private final long timeoutInSeconds;
+    private final Duration timeout;
+    private final Duration uiStablePoll;
+    private final Duration uiStableTimeout;
 
+    /**
+     * Uses the default UI-stability interval and timeout; reads no configuration.
+     */
     public WaitHelper(AndroidDriver driver, long timeoutInSeconds) {
+        this(driver, timeoutInSeconds, DEFAULT_UI_STABLE_POLL_MILLIS, DEFAULT_UI_STABLE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Takes the UI-stability interval and timeout from {@code ui.stable.poll.ms} and {@code ui.stable.timeout.ms}.
+     */
+    public WaitHelper(AndroidDriver driver, long timeoutInSeconds, ConfigManager config) {
+        this(driver, timeoutInSeconds,
+                config.getIntProperty("ui.stable.poll.ms", DEFAULT_UI_STABLE_POLL_MILLIS),
+                config.getIntProperty("ui.stable.timeout.ms", DEFAULT_UI_STABLE_TIMEOUT_MILLIS));
+    }
+
+    private WaitHelper(AndroidDriver driver, long timeoutInSeconds, int uiStablePollMillis, int uiStableTimeoutMillis) {
         this.driver = driver;
-        this.timeoutInSeconds = timeoutInSeconds;
+        this.timeout = Duration.ofSeconds(timeoutInSeconds);
+        this.uiStablePoll = Duration.ofMillis(uiStablePollMillis);
+        this.uiStableTimeout = Duration.ofMillis(uiStableTimeoutMillis);
+    }
+
+    public Duration getTimeout() {
+        return timeout;
     }
 
     public WebElement waitForElementToBeVisible(By locator) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return until("waitForElementToBeVisible", ExpectedConditions.visibilityOfElementLocated(locator));
     }
-    
+
     public WebElement waitForElementToBeVisible(WebElement element) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.visibilityOf(element));
+        return until("waitForElementToBeVisible", ExpectedConditions.visibilityOf(element));
     }
 
     public WebElement waitForElementToBeClickable(By locator) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.elementToBeClickable(locator));
+        return until("waitForElementToBeClickable", ExpectedConditions.elementToBeClickable(locator));
     }
-    
+
     public WebElement waitForElementToBeClickable(WebElement element) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.elementToBeClickable(element));
+        return until("waitForElementToBeClickable", ExpectedConditions.elementToBeClickable(element));
     }
 
     public boolean waitForElementToBeInvisible(By locator) {
-        return new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return until("waitForElementToBeInvisible", ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     public void waitForTextToBePresentInElement(By locator, String text) {
-        new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds))
-                .until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        until("waitForTextToBePresentInElement", ExpectedConditions.textToBePresentInElementLocated(locator, text));
+    }
+
+    /**
+     * Evaluates a Selenium {@link ExpectedCondition} with the default timeout.
+     */
+    public <T> T until(String name, ExpectedCondition<T> condition) {
+        return until(name, timeout, condition);
+    }
+
+    /**
+     * Evaluates a Selenium {@link ExpectedCondition} with the given timeout.
+     */
+    public <T> T until(String name, Duration timeout, ExpectedCondition<T> condition) {
+        return pollUntil(name, timeout, () -> condition.apply(driver));
+    }
+
+    /**
+     * Polls the condition until it returns a non-null, non-false value.
+     *
+     * @throws TimeoutException if the condition does not hold within the timeout
+     */
+    public <T> T pollUntil(String name, Duration timeout, Supplier<T> condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = INITIAL_POLL_MILLIS;
+        RuntimeException lastException = null;
+
+        while (true) {
+            try {
+                T value = condition.get();
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    WaitStats.record(name, System.nanoTime() - start, true);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastException = e;
+            }
+
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                WaitStats.record(name, System.nanoTime() - start, false);
+                throw new TimeoutException(String.format("Expected condition failed: %s (tried for %d ms with adaptive polling)",
+                        name, timeout.toMillis()), lastException);
+            }
+            sleep(Math.min(pollMillis, remainingMillis));
+            pollMillis = Math.min(MAX_POLL_MILLIS, (long) (pollMillis * BACKOFF_FACTOR));
+        }
+    }
+
+    /**
+     * Arayüz durulana kadar bekler (varsayılan aralık ve zaman aşımıyla)
+     * Waits until the UI hierarchy stops changing, with the configured interval and timeout
+     *
+     * @return false if the UI was still changing when the timeout expired
+     */
+    public boolean waitForUiStable() {
+        return waitForUiStable(uiStablePoll, uiStableTimeout);
+    }
+
+    /**
+     * Samples the hierarchy fingerprint every {@code interval} and returns as soon as two
+     * consecutive samples match. The last page source is handed to {@link PageSourceCache},
+     * so the check that usually follows does not download it again.
+     */
+    public boolean waitForUiStable(Duration interval, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        String source = driver.getPageSource();
+        long previous = fingerprint(source);
+        while (true) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                WaitStats.record("waitForUiStable", System.nanoTime() - start, false);
+                return false;
+            }
+            sleep(Math.min(interval.toMillis(), remainingMillis));
+            source = driver.getPageSource();
+            long current = fingerprint(source);
+            if (current == previous) {
+                WaitStats.record("waitForUiStable", System.nanoTime() - start, true);
+                PageSourceCache.of(driver).offer(source);
+                return true;
+            }
+            previous = current;
+        }
+    }
+
+    /**
+     * Hash of the class, bounds, text, content-desc and displayed attributes of every node.
+     */
+    static long fingerprint(String pageSource) {
+        long hash = 1125899906842597L;
+        Matcher matcher = FINGERPRINT_ATTRIBUTES.matcher(pageSource);
+        while (matcher.find()) {
+            for (int i = matcher.start(); i < matcher.end(); i++) {
+                hash = 31 * hash + pageSource.charAt(i);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Polls the condition until it is true; returns false instead of throwing on timeout.
+     */
+    public boolean pollUntilTrue(String name, Duration timeout, BooleanSupplier condition) {
+        try {
+            return pollUntil(name, timeout, () -> condition.getAsBoolean());
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
     }
 }
@@ -0,0 +1,72 @@
+package com.mobile.test.helpers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bekleme sürelerinin çağrı bazında istatistikleri
+ * Per-call latency statistics for every named wait executed through {@link WaitHelper}
+ */
+public final class WaitStats {
+    private static final ConcurrentMap<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, AtomicLong> TIMEOUTS = new ConcurrentHashMap<>();
+
+    private WaitStats() {
+    }
+
+    static void record(String name, long elapsedNanos, boolean satisfied) {
+        HISTOGRAMS.computeIfAbsent(name, key -> new LatencyHistogram()).recordNanos(elapsedNanos);
+        if (!satisfied) {
+            TIMEOUTS.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.get(name);
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Wait latency report (ms)\n");
+        sb.append(String.format("%-40s %7s %8s %9s %9s %9s %9s %10s%n",
+                "wait", "calls", "timeouts", "mean", "p50", "p95", "max", "total"));
+        double total = 0;
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(HISTOGRAMS).entrySet()) {
+            LatencyHistogram h = entry.getValue();
+            AtomicLong timeouts = TIMEOUTS.get(entry.getKey());
+            total += h.getTotalMillis();
+            sb.append(String.format("%-40s %7d %8d %9.1f %9.1f %9.1f %9.1f %10.1f%n",
+                    entry.getKey(),
+                    h.getCount(),
+                    timeouts != null ? timeouts.get() : 0,
+                    h.getMeanMillis(),
+                    h.getPercentileMillis(50),
+                    h.getPercentileMillis(95),
+                    h.getMaxMillis(),
+                    h.getTotalMillis()));
+        }
+        sb.append(String.format("Total time spent waiting: %.1f ms%n", total));
+        return sb.toString();
+    }
+
+    public static void writeReport(Path target) {
+        if (HISTOGRAMS.isEmpty()) {
+            return;
+        }
+        String report = report();
+        System.out.println(report);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, report.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("⚠️ Failed to write wait latency report: " + e.getMessage());
+        }
+    }
+}
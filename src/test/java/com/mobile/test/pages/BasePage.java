@@ -1,28 +1,46 @@
 package com.mobile.test.pages;
 
+import com.mobile.test.helpers.FormFiller;
+import com.mobile.test.helpers.MultiLocator;
+import com.mobile.test.helpers.PresenceCheck;
+import com.mobile.test.helpers.Scroller;
 import com.mobile.test.helpers.WaitHelper;
 import io.appium.java_client.android.AndroidDriver;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
-import io.appium.java_client.PerformsTouchActions;
-import io.appium.java_client.TouchAction;
-import io.appium.java_client.touch.WaitOptions;
-import io.appium.java_client.touch.offset.PointOption;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.pagefactory.FieldDecorator;
 
+import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.Map;
 
+/**
+ * Sayfa sınıflarının ortak temel sınıfı
+ * Common base class for page objects
+ *
+ * <p>Element fields are initialized by {@link PageRegistry}, not by the constructor. The wait
+ * engine and form filler belong to the driver session's registry and are shared by all of its
+ * pages, so constructing a page or calling a helper allocates no waits.</p>
+ */
 public class BasePage {
+    /** Somut sayfa sınıfının adıyla kaydeder / Logs under the concrete page class name */
+    protected final Logger log = LogManager.getLogger(getClass());
     protected final AndroidDriver driver;
     protected final WaitHelper waitHelper;
+    protected final FormFiller formFiller;
+    protected final PresenceCheck presence;
+    protected final Scroller scroller;
 
     public BasePage(AndroidDriver driver) {
         this.driver = driver;
-        this.waitHelper = new WaitHelper(driver, 10);
-        FieldDecorator decorator = new AppiumFieldDecorator(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(decorator, this);
+        PageRegistry registry = PageRegistry.of(driver);
+        this.waitHelper = registry.getWaitHelper();
+        this.formFiller = registry.getFormFiller();
+        this.presence = registry.getPresence();
+        this.scroller = registry.getScroller();
     }
 
     // Helper Methods
@@ -30,9 +48,9 @@ public class BasePage {
         try {
             waitHelper.waitForElementToBeClickable(element);
             element.click();
-            System.out.println("✅ Elemente tıklandı");
+            log.debug("✅ Elemente tıklandı");
         } catch (Exception e) {
-            System.err.println("❌ Elemente tıklanamadı: " + e.getMessage());
+            log.error("❌ Elemente tıklanamadı: " + e.getMessage());
             throw e;
         }
     }
@@ -42,24 +60,88 @@ public class BasePage {
             waitHelper.waitForElementToBeVisible(element);
             element.clear();
             element.sendKeys(text);
-            System.out.println("✅ Metin yazıldı: " + text);
+            log.debug("✅ Metin yazıldı: {}", text);
         } catch (Exception e) {
-            System.err.println("❌ Metin yazılamadı: " + e.getMessage());
+            log.error("❌ Metin yazılamadı: " + e.getMessage());
             throw e;
         }
     }
 
+    protected WebElement waitForElementToBeVisible(WebElement element) {
+        return waitHelper.waitForElementToBeVisible(element);
+    }
+
+    protected String getText(WebElement element) {
+        return waitForElementToBeVisible(element).getText();
+    }
+
+    /**
+     * Formu toplu doldurur; alan başına tek çağrı, okuma için tek sayfa kaynağı
+     * Fills several fields at once with one lookup, one call per field and one read-back
+     * @return the values read back from the screen
+     */
+    protected Map<By, String> fillForm(Map<By, String> values) {
+        return formFiller.fill(values);
+    }
+
+    /**
+     * Elementin şu anda görünür olup olmadığını beklemeden kontrol eder
+     * Checks whether the element is displayed right now; an absent page field answers
+     * immediately instead of after the decorator's lookup timeout
+     */
     protected boolean isElementDisplayed(WebElement element) {
         try {
-            boolean isDisplayed = element.isDisplayed();
-            System.out.println("✅ Element görünür durumda: " + isDisplayed);
+            By locator = locatorOf(element);
+            boolean isDisplayed = locator != null ? presence.isDisplayedNow(locator) : element.isDisplayed();
+            log.debug("✅ Element görünür durumda: {}", isDisplayed);
             return isDisplayed;
         } catch (Exception e) {
-            System.err.println("❌ Element görüntülenemedi: " + e.getMessage());
+            log.error("❌ Element görüntülenemedi: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Element görünür olana kadar bekler / Waits up to the timeout for the element to become visible
+     * @return false if it is still not visible when the timeout expires
+     */
+    protected boolean isElementDisplayed(WebElement element, Duration timeout) {
+        By locator = locatorOf(element);
+        try {
+            if (locator != null) {
+                return waitHelper.pollUntilTrue("isElementDisplayed", timeout, () -> presence.isDisplayedNow(locator));
+            }
+            return waitHelper.pollUntilTrue("isElementDisplayed", timeout, element::isDisplayed);
+        } catch (WebDriverException e) {
+            log.error("❌ Element görüntülenemedi: " + e.getMessage());
             return false;
         }
     }
     
+    /**
+     * Herhangi biri şu anda görünür mü; tek sayfa kaynağı üzerinden
+     * True if any of the locators is displayed now, checked against one page-source snapshot
+     */
+    protected boolean isAnyDisplayedNow(By... locators) {
+        return presence.anyDisplayedNow(locators);
+    }
+
+    /**
+     * Locator of the page field holding this proxy, or null for elements that are not fields.
+     */
+    private By locatorOf(WebElement element) {
+        for (Field field : PageRegistry.decoratableFields(getClass())) {
+            try {
+                if (field.get(this) == element) {
+                    return PresenceCheck.locatorOf(field);
+                }
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
     /**
      * WaitHelper nesnesine erişim sağlar
      * Provides access to the WaitHelper instance
@@ -69,31 +151,32 @@ public class BasePage {
     }
     
     /**
-     * Scrolls to the specified element using W3C Actions
-     * @param element The WebElement to scroll to
+     * Elementi görünür alana kaydırır / Scrolls the element into view with one server-side
+     * UiScrollable search, falling back to a bounded number of swipes (see {@link Scroller})
+     *
+     * @return the displayed element
+     * @throws NoSuchElementException if it could not be brought into view
      */
-    protected void scrollToElement(WebElement element) {
-        try {
-            // Get the center coordinates of the element
-            int centerX = element.getLocation().getX() + (element.getSize().getWidth() / 2);
-            int centerY = element.getLocation().getY() + (element.getSize().getHeight() / 2);
-            
-            // Scroll to the element using W3C Actions
-            new org.openqa.selenium.interactions.Actions(driver)
-                .moveToElement(element)
-                .perform();
-                
-            System.out.println("✅ Scrolled to element");
-            
-            // Add a small delay to ensure the scroll completes
-            try {
-                Thread.sleep(500);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        } catch (Exception e) {
-            System.err.println("❌ Could not scroll to element: " + e.getMessage());
-            throw e;
+    protected WebElement scrollIntoView(By locator) {
+        return scroller.scrollIntoView(locator);
+    }
+
+    protected WebElement scrollIntoView(MultiLocator locator) {
+        return scroller.scrollIntoView(locator);
+    }
+
+    /**
+     * Scrolls a page field into view by its {@code @AndroidFindBy} locator; elements that are
+     * not page fields can only be checked, not searched for.
+     */
+    protected WebElement scrollIntoView(WebElement element) {
+        By locator = locatorOf(element);
+        if (locator != null) {
+            return scroller.scrollIntoView(locator);
+        }
+        if (!element.isDisplayed()) {
+            throw new NoSuchElementException("Element is not displayed and has no locator to scroll to: " + element);
         }
+        return element;
     }
 }
@@ -0,0 +1,108 @@
+package com.mobile.test.pages;
+
+import com.mobile.test.helpers.PresenceCheck;
+import com.mobile.test.helpers.WaitHelper;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Çözümlenen elementleri önbellekten kullanan alan dekoratörü
+ * Field decorator whose single-element proxies reuse the resolved element through {@link ElementCache}
+ *
+ * <p>Only {@code WebElement} fields with an {@code @AndroidFindBy} locator are cached; lists and
+ * everything else go to the wrapped decorator. A cache miss polls for the element for the
+ * lookup timeout, like the Appium proxies did, and fails with {@link NoSuchElementException}.
+ * A {@link StaleElementReferenceException} evicts the element and the call is retried once on
+ * a freshly resolved one.</p>
+ */
+public class CachingFieldDecorator implements FieldDecorator {
+    private static final Class<?>[] INTERFACES = {WebElement.class, WrapsElement.class, WrapsDriver.class, Locatable.class};
+
+    private final FieldDecorator fallback;
+    private final ElementCache cache;
+    private final PresenceCheck presence;
+    private final WaitHelper waitHelper;
+    private final Duration lookupTimeout;
+
+    public CachingFieldDecorator(FieldDecorator fallback, ElementCache cache, PresenceCheck presence, WaitHelper waitHelper,
+                                 Duration lookupTimeout) {
+        this.fallback = fallback;
+        this.cache = cache;
+        this.presence = presence;
+        this.waitHelper = waitHelper;
+        this.lookupTimeout = lookupTimeout;
+    }
+
+    @Override
+    public Object decorate(ClassLoader loader, Field field) {
+        By locator = field.getType() == WebElement.class ? PresenceCheck.locatorOf(field) : null;
+        if (locator == null) {
+            return fallback.decorate(loader, field);
+        }
+        return Proxy.newProxyInstance(loader, INTERFACES, new CachedElementHandler(field.getDeclaringClass(), locator));
+    }
+
+    private WebElement resolve(By locator) {
+        try {
+            return waitHelper.pollUntil("elementLookup", lookupTimeout, () -> {
+                List<WebElement> found = presence.findNow(locator);
+                return found.isEmpty() ? null : found.get(0);
+            });
+        } catch (TimeoutException e) {
+            throw new NoSuchElementException("Cannot locate an element using " + locator, e);
+        }
+    }
+
+    private final class CachedElementHandler implements InvocationHandler {
+        private final Class<?> page;
+        private final By locator;
+
+        private CachedElementHandler(Class<?> page, By locator) {
+            this.page = page;
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "toString":
+                    return "Cached proxy element for: " + locator;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getWrappedElement":
+                    return cache.get(page, locator, () -> resolve(locator));
+                default:
+                    break;
+            }
+            for (int attempt = 0; ; attempt++) {
+                WebElement element = cache.get(page, locator, () -> resolve(locator));
+                try {
+                    return method.invoke(element, args);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof StaleElementReferenceException && attempt == 0) {
+                        cache.evictStale(page, locator, element);
+                        continue;
+                    }
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+}
@@ -2,31 +2,25 @@ package com.mobile.test.pages;
 
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
 
-import java.time.Duration;
 import java.util.List;
 
 public class CartPage extends BasePage {
+    private static final String CART_ITEM_XPATH = "//android.widget.TextView[contains(@content-desc, 'test-Item')]";
     
     @AndroidFindBy(accessibility = "test-CHECKOUT")
     private WebElement checkoutButton;
     
-    @AndroidFindBy(xpath = "//android.widget.TextView[contains(@content-desc, 'test-Item')]")
+    @AndroidFindBy(xpath = CART_ITEM_XPATH)
     private List<WebElement> cartItems;
     
-    @AndroidFindBy(xpath = "//android.widget.TextView[contains(@content-desc, 'test-Item')]")
-    private List<WebElement> productTitles;
-    
     @AndroidFindBy(accessibility = "test-REMOVE")
     private WebElement removeButton;
     
     public CartPage(AndroidDriver driver) {
         super(driver);
-        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), this);
     }
     
     public void checkout() {
@@ -34,20 +28,17 @@ public class CartPage extends BasePage {
     }
     
     public boolean isProductInCart() {
-        // Refresh elements to get the latest state
-        cartItems = driver.findElements(By.xpath("//android.widget.TextView[contains(@content-desc, 'test-Item')]"));
+        // Refresh elements to get the latest state (local, so the shared page stays stateless); an empty cart answers at once
+        List<WebElement> cartItems = presence.findNow(By.xpath(CART_ITEM_XPATH));
         boolean hasItems = !cartItems.isEmpty();
-        System.out.println("Sepette ürün var mı? / Is there a product in the cart? " + hasItems);
+        log.info("Sepette ürün var mı? / Is there a product in the cart? " + hasItems);
         if (hasItems) {
-            System.out.println("Sepetteki ürün sayısı / Number of items in cart: " + cartItems.size());
+            log.info("Sepetteki ürün sayısı / Number of items in cart: " + cartItems.size());
             // Safely get the first product name if available
             try {
-                productTitles = driver.findElements(By.xpath("//android.widget.TextView[contains(@content-desc, 'test-Item')]"));
-                if (!productTitles.isEmpty()) {
-                    System.out.println("İlk ürün adı / First product name: " + productTitles.get(0).getText());
-                }
+                log.info("İlk ürün adı / First product name: " + cartItems.get(0).getText());
             } catch (Exception e) {
-                System.out.println("Ürün adı alınırken hata oluştu / Error getting product name: " + e.getMessage());
+                log.info("Ürün adı alınırken hata oluştu / Error getting product name: " + e.getMessage());
             }
         }
         return hasItems;
@@ -55,11 +46,11 @@ public class CartPage extends BasePage {
     
     public void removeFirstProduct() {
         if (!cartItems.isEmpty()) {
-            System.out.println("İlk ürün sepetten çıkarılıyor / Removing first product from cart");
+            log.info("İlk ürün sepetten çıkarılıyor / Removing first product from cart");
             click(removeButton);
-            System.out.println("Ürün çıkarma işlemi tamamlandı / Product removal completed");
+            log.info("Ürün çıkarma işlemi tamamlandı / Product removal completed");
         } else {
-            System.out.println("Sepette çıkarılacak ürün bulunamadı / No products found to remove from cart");
+            log.info("Sepette çıkarılacak ürün bulunamadı / No products found to remove from cart");
         }
     }
 }
@@ -0,0 +1,133 @@
+package com.mobile.test.pages;
+
+import com.mobile.test.driver.CommandListener;
+import com.mobile.test.driver.ObservingCommandExecutor;
+import com.mobile.test.helpers.PageSourceCache;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.Command;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Oturum başına çözümlenmiş element önbelleği
+ * Per-session cache of resolved elements, keyed by locator
+ *
+ * <p>Page fields built by {@link CachingFieldDecorator} resolve their locator once and reuse the
+ * element id until the element goes stale or the UI may have changed: any command outside the
+ * read-only allowlist of {@link PageSourceCache#isReadOnly} (clicks, typing, gestures, scripts,
+ * app lifecycle...) clears the whole cache. A stale element is evicted and resolved again by
+ * the field itself, so callers never see the difference. Drivers without an
+ * {@link ObservingCommandExecutor} cannot be invalidated and are never cached.</p>
+ *
+ * <p>Hits, misses and stale re-resolutions are counted per page class across all sessions.</p>
+ */
+public final class ElementCache implements CommandListener {
+    private static final Map<AndroidDriver, ElementCache> CACHES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ConcurrentMap<String, Counters> COUNTERS = new ConcurrentHashMap<>();
+
+    private final boolean observed;
+    private final Map<By, WebElement> elements = new ConcurrentHashMap<>();
+
+    private ElementCache(AndroidDriver driver) {
+        this.observed = driver.getCommandExecutor() instanceof ObservingCommandExecutor;
+        if (observed) {
+            ((ObservingCommandExecutor) driver.getCommandExecutor()).addListener(this);
+        }
+    }
+
+    public static ElementCache of(AndroidDriver driver) {
+        synchronized (CACHES) {
+            return CACHES.computeIfAbsent(driver, ElementCache::new);
+        }
+    }
+
+    static void remove(AndroidDriver driver) {
+        CACHES.remove(driver);
+    }
+
+    /**
+     * The cached element for the locator, resolving and caching it on a miss.
+     */
+    WebElement get(Class<?> page, By locator, Supplier<WebElement> resolver) {
+        Counters counters = counters(page);
+        WebElement element = elements.get(locator);
+        if (element != null) {
+            counters.hits.incrementAndGet();
+            return element;
+        }
+        counters.misses.incrementAndGet();
+        element = resolver.get();
+        if (observed) {
+            elements.put(locator, element);
+        }
+        return element;
+    }
+
+    /**
+     * Drops an element the server reported as stale, unless it was already replaced.
+     */
+    void evictStale(Class<?> page, By locator, WebElement stale) {
+        counters(page).stale.incrementAndGet();
+        elements.remove(locator, stale);
+    }
+
+    public void invalidate() {
+        elements.clear();
+    }
+
+    @Override
+    public void afterCommand(Command command, long elapsedNanos, Throwable failure) {
+        if (!PageSourceCache.isReadOnly(command)) {
+            elements.clear();
+        }
+    }
+
+    private static Counters counters(Class<?> page) {
+        return COUNTERS.computeIfAbsent(page.getSimpleName(), key -> new Counters());
+    }
+
+    public static boolean hasData() {
+        return !COUNTERS.isEmpty();
+    }
+
+    public static String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Element cache report\n");
+        sb.append(String.format("%-24s %9s %9s %9s %9s%n", "page", "hits", "misses", "stale", "hit rate"));
+        for (Map.Entry<String, Counters> entry : new TreeMap<>(COUNTERS).entrySet()) {
+            long hits = entry.getValue().hits.get();
+            long misses = entry.getValue().misses.get();
+            sb.append(String.format("%-24s %9d %9d %9d %8.0f%%%n", entry.getKey(), hits, misses, entry.getValue().stale.get(),
+                    hits + misses > 0 ? hits * 100.0 / (hits + misses) : 0));
+        }
+        return sb.toString();
+    }
+
+    public static void writeReport(Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, report().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("⚠️ Failed to write element cache report: " + e.getMessage());
+        }
+    }
+
+    private static final class Counters {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong stale = new AtomicLong();
+    }
+}
@@ -1,15 +1,17 @@
 package com.mobile.test.pages;
 
-import com.mobile.test.base.BasePage;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.helpers.PageSourceSnapshot;
+import io.appium.java_client.AppiumBy;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Giriş sayfası işlemlerini yöneten sayfa sınıfı
@@ -18,6 +20,9 @@ import java.time.Duration;
 public class LoginPage extends BasePage {
 
     // Element Lokatörleri / Element Locators
+    private static final By USERNAME = AppiumBy.accessibilityId("test-Username");
+    private static final By PASSWORD = AppiumBy.accessibilityId("test-Password");
+
     @AndroidFindBy(accessibility = "test-Username")
     private WebElement usernameInput;
 
@@ -28,13 +33,15 @@ public class LoginPage extends BasePage {
     private WebElement loginButton;
 
     // Hata Mesajları / Error Messages
+    private static final String ERROR_XPATH = "//android.widget.TextView[contains(@text, 'required') or contains(@text, 'Username') or contains(@text, 'Password') or contains(@text, 'epic sadface')]";
+    private static final Duration ERROR_MESSAGE_TIMEOUT = Duration.ofSeconds(3);
+
     // More flexible XPath to find error messages
     @AndroidFindBy(xpath = "//android.widget.TextView[contains(@text, 'required') or contains(@text, 'Username') or contains(@text, 'Password')]")
     private WebElement errorMessageElement;
 
     public LoginPage(AndroidDriver driver) {
         super(driver);
-        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), this);
     }
 
     /**
@@ -42,12 +49,13 @@ public class LoginPage extends BasePage {
      * Logs in with username and password
      */
     public void login(String username, String password) {
-        System.out.println("Kullanıcı girişi yapılıyor... / Logging in user...");
-        waitForElementToBeVisible(usernameInput);
-        sendKeys(usernameInput, username);
-        sendKeys(passwordInput, password);
+        log.info("Kullanıcı girişi yapılıyor... / Logging in user...");
+        Map<By, String> form = new LinkedHashMap<>();
+        form.put(USERNAME, username);
+        form.put(PASSWORD, password);
+        fillForm(form);
         click(loginButton);
-        System.out.println("Giriş butonuna tıklandı / Login button clicked");
+        log.info("Giriş butonuna tıklandı / Login button clicked");
     }
 
     /**
@@ -55,32 +63,33 @@ public class LoginPage extends BasePage {
      * Returns the error message text
      */
     public String getErrorMessage() {
-        System.out.println("Hata mesajı alınıyor...");
-        System.out.println("Getting error message...");
+        log.info("Hata mesajı alınıyor...");
+        log.info("Getting error message...");
         ensureKeyboardIsHidden();
         
         try {
             // First try to find the error message with a more flexible approach
-            String errorXpath = "//android.widget.TextView[contains(@text, 'required') or contains(@text, 'Username') or contains(@text, 'Password') or contains(@text, 'epic sadface')]";
-            WebElement errorElement = driver.findElement(By.xpath(errorXpath));
+            WebElement errorElement = driver.findElement(By.xpath(ERROR_XPATH));
             String errorText = errorElement.getText();
-            System.out.println("Alınan hata mesajı / Error message received: " + errorText);
+            log.info("Alınan hata mesajı / Error message received: " + errorText);
             return errorText;
         } catch (Exception e) {
-            System.err.println("Hata mesajı alınamadı / Could not get error message: " + e.getMessage());
+            log.warn("Hata mesajı alınamadı / Could not get error message: " + e.getMessage());
             
             // Try one more time with a different approach if the first one fails
             try {
-                String pageSource = driver.getPageSource();
-                System.out.println("Sayfa kaynağı / Page source: " + pageSource);
-                // Look for common error message patterns in the page source
-                if (pageSource.contains("Username is required") || pageSource.contains("Password is required")) {
+                PageSourceSnapshot snapshot = PageSourceCache.of(driver).get();
+                log.debug("Sayfa kaynağı okundu / Page source read: {} chars", snapshot.getXml().length());
+                // Look for common error message patterns in the text values of the page
+                if (snapshot.containsAnyText("Username is required", "Password is required")) {
                     return "Username and password are required";
-                } else if (pageSource.contains("epic sadface")) {
-                    return "epic sadface: " + pageSource.split("epic sadface:")[1].split("\"")[0].trim();
+                }
+                Optional<String> sadface = snapshot.findText("epic sadface");
+                if (sadface.isPresent()) {
+                    return sadface.get().trim();
                 }
             } catch (Exception ex) {
-                System.err.println("Hata mesajı alınamadı (ikinci deneme) / Could not get error message (second attempt): " + ex.getMessage());
+                log.warn("Hata mesajı alınamadı (ikinci deneme) / Could not get error message (second attempt): " + ex.getMessage());
             }
             
             return "";
@@ -93,41 +102,24 @@ public class LoginPage extends BasePage {
      */
     public boolean isErrorMessageDisplayed() {
         try {
-            // Add a small delay to ensure the error message has time to appear
-            Thread.sleep(2000);
-            
-            // Try multiple ways to detect the error message
-            try {
-                // Try with the page object element first
-                if (errorMessageElement.isDisplayed()) {
-                    System.out.println("Hata mesajı görünür durumda (ana element) / Error message displayed (main element)");
-                    return true;
-                }
-            } catch (Exception e) {
-                System.err.println("Ana hata mesajı elementi bulunamadı / Main error message element not found: " + e.getMessage());
-            }
-            
-            // Try with a more flexible XPath
-            try {
-                String errorXpath = "//android.widget.TextView[contains(@text, 'required') or contains(@text, 'Username') or contains(@text, 'Password') or contains(@text, 'epic sadface')]";
-                boolean isDisplayed = driver.findElement(By.xpath(errorXpath)).isDisplayed();
-                System.out.println("Hata mesajı görünür durumda (XPath ile) / Error message displayed (with XPath): " + isDisplayed);
-                return isDisplayed;
-            } catch (Exception e) {
-                System.err.println("XPath ile hata mesajı bulunamadı / Error message not found with XPath: " + e.getMessage());
+            // Hata mesajı görünene kadar artan aralıklarla yokla / Poll with back-off until the error message appears
+            boolean isDisplayed = waitHelper.pollUntilTrue("login.isErrorMessageDisplayed", ERROR_MESSAGE_TIMEOUT, () ->
+                    driver.findElements(By.xpath(ERROR_XPATH)).stream().anyMatch(WebElement::isDisplayed));
+            if (isDisplayed) {
+                log.info("Hata mesajı görünür durumda (XPath ile) / Error message displayed (with XPath): true");
+                return true;
             }
+            log.warn("XPath ile hata mesajı bulunamadı / Error message not found with XPath");
             
-            // Check page source as a last resort
-            String pageSource = driver.getPageSource().toLowerCase();
-            boolean containsError = pageSource.contains("required") || 
-                                  pageSource.contains("username") || 
-                                  pageSource.contains("password") ||
-                                  pageSource.contains("epic sadface");
-            System.out.println("Sayfa kaynağında hata metni arandı / Error text searched in page source: " + containsError);
+            // Son çare: yalnızca gerçek hata mesajı parçaları / Last resort: only fragments of the real error messages,
+            // field labels such as "Username" also appear in content-desc values
+            boolean containsError = PageSourceCache.of(driver).get()
+                    .containsAnyText("is required", "epic sadface", "Error:");
+            log.info("Sayfa kaynağında hata metni arandı / Error text searched in page source: " + containsError);
             return containsError;
             
         } catch (Exception e) {
-            System.err.println("Hata mesajı kontrol edilemedi / Could not check error message: " + e.getMessage());
+            log.warn("Hata mesajı kontrol edilemedi / Could not check error message: " + e.getMessage());
             return false;
         }
     }
@@ -137,7 +129,7 @@ public class LoginPage extends BasePage {
      * Checks if the login page is displayed
      */
     public boolean isLoginPageDisplayed() {
-        return isElementDisplayed(loginButton);
+        return isElementDisplayed(loginButton, waitHelper.getTimeout());
     }
 
     /**
@@ -147,11 +139,11 @@ public class LoginPage extends BasePage {
     private void ensureKeyboardIsHidden() {
         try {
             if (driver.isKeyboardShown()) {
-                System.out.println("Klavye kapatılıyor... / Hiding keyboard...");
+                log.info("Klavye kapatılıyor... / Hiding keyboard...");
                 driver.hideKeyboard();
             }
         } catch (Exception e) {
-            System.out.println("Klavye zaten kapalı veya mevcut değil / Keyboard already hidden or not present");
+            log.info("Klavye zaten kapalı veya mevcut değil / Keyboard already hidden or not present");
         }
     }
 }
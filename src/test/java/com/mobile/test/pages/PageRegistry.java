@@ -0,0 +1,192 @@
+package com.mobile.test.pages;
+
+import com.mobile.test.config.ConfigManager;
+import com.mobile.test.helpers.FormFiller;
+import com.mobile.test.helpers.PresenceCheck;
+import com.mobile.test.helpers.Scroller;
+import com.mobile.test.helpers.WaitHelper;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sürücü oturumu başına sayfa nesnesi kayıt defteri
+ * Per-session registry that builds each page object once, on first use
+ *
+ * <p>Pages are stateless apart from their element proxies, and the proxies look elements up
+ * lazily, so one instance per page class can serve every test that runs on the session. The
+ * reflective part of {@code PageFactory.initElements} (walking the class hierarchy and
+ * picking the decoratable fields) is cached per page class, and the session shares its
+ * field decorators (one per lookup timeout; {@link CachingFieldDecorator} over
+ * {@link AppiumFieldDecorator} unless {@code element.cache=false}), {@link WaitHelper},
+ * {@link FormFiller}, {@link PresenceCheck} and {@link Scroller} with every {@link BasePage}, so no page
+ * allocates its own.</p>
+ */
+public final class PageRegistry {
+    static final Duration ELEMENT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Map<AndroidDriver, PageRegistry> REGISTRIES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ConcurrentMap<Class<?>, List<Field>> PAGE_FIELDS = new ConcurrentHashMap<>();
+
+    private final AndroidDriver driver;
+    private final FieldDecorator decorator;
+    private final ConcurrentMap<Duration, FieldDecorator> decorators = new ConcurrentHashMap<>();
+    private final WaitHelper waitHelper;
+    private final FormFiller formFiller;
+    private final PresenceCheck presence;
+    private final Scroller scroller;
+    private final ConcurrentMap<Class<?>, Object> pages = new ConcurrentHashMap<>();
+
+    private PageRegistry(AndroidDriver driver) {
+        this.driver = driver;
+        this.waitHelper = new WaitHelper(driver, ELEMENT_TIMEOUT.getSeconds(), ConfigManager.getInstance());
+        this.formFiller = new FormFiller(driver, waitHelper);
+        this.presence = new PresenceCheck(driver);
+        this.scroller = new Scroller(driver, waitHelper, presence, ConfigManager.getInstance());
+        this.decorator = decorator(ELEMENT_TIMEOUT);
+    }
+
+    public static PageRegistry of(AndroidDriver driver) {
+        synchronized (REGISTRIES) {
+            return REGISTRIES.computeIfAbsent(driver, PageRegistry::new);
+        }
+    }
+
+    /**
+     * Drops the session's registry and element cache once the session is closed.
+     */
+    public static void remove(AndroidDriver driver) {
+        REGISTRIES.remove(driver);
+        ElementCache.remove(driver);
+    }
+
+    /**
+     * Returns the session's instance of the page, creating and initializing it on first use.
+     * Page classes need a public constructor that takes an {@link AndroidDriver}.
+     */
+    public <T> T get(Class<T> pageClass) {
+        Object page = pages.get(pageClass);
+        if (page == null) {
+            page = pages.computeIfAbsent(pageClass, this::create);
+        }
+        return pageClass.cast(page);
+    }
+
+    /**
+     * Oturumun ortak bekleme motoru / The session's shared wait engine
+     */
+    public WaitHelper getWaitHelper() {
+        return waitHelper;
+    }
+
+    public FormFiller getFormFiller() {
+        return formFiller;
+    }
+
+    public PresenceCheck getPresence() {
+        return presence;
+    }
+
+    public Scroller getScroller() {
+        return scroller;
+    }
+
+    /**
+     * The session's field decorator for the given element lookup timeout, created once.
+     */
+    public FieldDecorator decorator(Duration lookupTimeout) {
+        return decorators.computeIfAbsent(lookupTimeout, this::newDecorator);
+    }
+
+    private FieldDecorator newDecorator(Duration lookupTimeout) {
+        FieldDecorator appium = new AppiumFieldDecorator(driver, lookupTimeout);
+        if (!Boolean.parseBoolean(ConfigManager.getInstance().getProperty("element.cache", "true"))) {
+            return appium;
+        }
+        return new CachingFieldDecorator(appium, ElementCache.of(driver), presence, waitHelper, lookupTimeout);
+    }
+
+    public boolean isCreated(Class<?> pageClass) {
+        return pages.containsKey(pageClass);
+    }
+
+    private Object create(Class<?> pageClass) {
+        try {
+            Object page = pageClass.getConstructor(AndroidDriver.class).newInstance(driver);
+            initElements(decorator, page);
+            return page;
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Could not create " + pageClass.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create " + pageClass.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Equivalent of {@code PageFactory.initElements(decorator, page)} that reuses the cached
+     * field list of the page class.
+     */
+    public static void initElements(FieldDecorator decorator, Object page) {
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (Field field : decoratableFields(page.getClass())) {
+            Object proxy = decorator.decorate(loader, field);
+            if (proxy != null) {
+                try {
+                    field.set(page, proxy);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Could not initialize " + field, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sayfa sınıflarının yansıma bilgisini önceden hazırlar / Precomputes the reflective metadata
+     * of the page classes (decoratable fields and their locators) before any session needs it
+     */
+    public static void precompute(Class<?>... pageClasses) {
+        for (Class<?> pageClass : pageClasses) {
+            for (Field field : decoratableFields(pageClass)) {
+                PresenceCheck.locatorOf(field);
+            }
+        }
+    }
+
+    static List<Field> decoratableFields(Class<?> pageClass) {
+        List<Field> fields = PAGE_FIELDS.get(pageClass);
+        if (fields == null) {
+            fields = PAGE_FIELDS.computeIfAbsent(pageClass, PageRegistry::scanFields);
+        }
+        return fields;
+    }
+
+    private static List<Field> scanFields(Class<?> pageClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                    continue;
+                }
+                if (WebElement.class.isAssignableFrom(field.getType()) || List.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+}
@@ -1,14 +1,9 @@
 package com.mobile.test.pages;
 
-import com.mobile.test.base.BasePage;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 
-import java.time.Duration;
 import java.util.List;
 
 public class ProductsPage extends BasePage {
@@ -42,15 +37,15 @@ public class ProductsPage extends BasePage {
     }
 
     public boolean isOnProductsPage() {
-        return isElementDisplayed(productsTitle);
+        return isElementDisplayed(productsTitle, waitHelper.getTimeout());
     }
     
     public void addFirstProductToCart() {
         if (!addToCartButtons.isEmpty()) {
             click(addToCartButtons.get(0));
-            System.out.println("✅ İlk ürün sepete eklendi / First product added to cart");
+            log.info("✅ İlk ürün sepete eklendi / First product added to cart");
         } else {
-            System.out.println("❌ Sepete eklenecek ürün bulunamadı / No products found to add to cart");
+            log.error("❌ Sepete eklenecek ürün bulunamadı / No products found to add to cart");
         }
     }
     
@@ -61,7 +56,7 @@ public class ProductsPage extends BasePage {
     public void logout() {
         click(menuButton);
         click(logoutButton);
-        System.out.println("✅ Başarıyla çıkış yapıldı / Successfully logged out");
+        log.info("✅ Başarıyla çıkış yapıldı / Successfully logged out");
     }
     
     /**
@@ -70,19 +65,19 @@ public class ProductsPage extends BasePage {
      */
     public boolean isProductsPageDisplayed() {
         try {
-            System.out.println("Ürünler sayfası kontrol ediliyor...");
-            System.out.println("Checking if products page is displayed...");
-            boolean isDisplayed = productsTitle.isDisplayed();
-            System.out.println("Ürünler sayfası görüntülenme durumu / Products page display status: " + isDisplayed);
+            log.info("Ürünler sayfası kontrol ediliyor...");
+            log.info("Checking if products page is displayed...");
+            boolean isDisplayed = isElementDisplayed(productsTitle, waitHelper.getTimeout());
+            log.info("Ürünler sayfası görüntülenme durumu / Products page display status: " + isDisplayed);
             if (isDisplayed) {
-                System.out.println("Mevcut ürün sayısı / Number of products found: " + productTitles.size());
+                log.info("Mevcut ürün sayısı / Number of products found: " + productTitles.size());
                 if (!productTitles.isEmpty()) {
-                    System.out.println("İlk ürün başlığı / First product title: " + productTitles.get(0).getText());
+                    log.info("İlk ürün başlığı / First product title: " + productTitles.get(0).getText());
                 }
             }
             return isDisplayed;
         } catch (Exception e) {
-            System.out.println("Ürünler sayfası görüntülenemedi / Products page is not displayed: " + e.getMessage());
+            log.info("Ürünler sayfası görüntülenemedi / Products page is not displayed: " + e.getMessage());
             return false;
         }
     }
@@ -3,20 +3,17 @@ package com.mobile.test.pages;
 import com.google.common.collect.ImmutableMap;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.pagefactory.AndroidFindBy;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
 import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.RemoteWebElement;
-import org.openqa.selenium.support.PageFactory;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 public class SettingsPage extends BasePage {
-    private static final String TAG = "[SettingsPage] ";
+    private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(15);
 
     // Main settings options
     @AndroidFindBy(id = "com.android.settings:id/dashboard_tile")
@@ -40,43 +37,47 @@ public class SettingsPage extends BasePage {
 
     public SettingsPage(AndroidDriver driver) {
         super(driver);
-        System.out.println(TAG + "Initializing SettingsPage");
-        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(15)), this);
+        log.debug("Initializing SettingsPage");
+        // Kayıt defteri dışında oluşturulur, daha uzun zaman aşımıyla / Built outside the registry, with a longer lookup timeout
+        PageRegistry.initElements(PageRegistry.of(driver).decorator(LOOKUP_TIMEOUT), this);
     }
 
     public boolean isSettingsPageDisplayed() {
         try {
-            System.out.println(TAG + "Checking if settings page is displayed");
+            log.info("Checking if settings page is displayed");
             
             // First, try to find the settings title
             boolean isDisplayed = false;
             String pageTitle = "";
             
             try {
-                isDisplayed = settingsTitle.isDisplayed();
+                isDisplayed = isElementDisplayed(settingsTitle);
+                if (!isDisplayed) {
+                    throw new NoSuchElementException("Settings title is not on screen");
+                }
                 pageTitle = settingsTitle.getText();
             } catch (Exception e) {
-                System.out.println(TAG + "Could not find settings title by ID, trying alternative locators");
+                log.info("Could not find settings title by ID, trying alternative locators");
                 // Try alternative ways to detect settings page
-                isDisplayed = !driver.findElements(
-                    By.xpath("//*[contains(@text, 'Settings') or contains(@text, 'Ayarlar')]")).isEmpty();
+                isDisplayed = presence.isDisplayedNow(
+                    By.xpath("//*[contains(@text, 'Settings') or contains(@text, 'Ayarlar')]"));
                 if (isDisplayed) {
                     pageTitle = "Settings";
                 }
             }
             
-            System.out.println(TAG + "Settings page is displayed: " + isDisplayed);
-            System.out.println(TAG + "Page title: " + pageTitle);
+            log.info("Settings page is displayed: " + isDisplayed);
+            log.info("Page title: " + pageTitle);
             
             // Log available settings options
-            System.out.println(TAG + "Available settings options (first 5):");
+            log.info("Available settings options (first 5):");
             int count = 0;
             for (WebElement tile : settingsTiles) {
                 try {
                     if (count >= 5) break; // Limit to first 5 for logging
                     String text = tile.getText();
                     if (text != null && !text.trim().isEmpty()) {
-                        System.out.println("- " + text);
+                        log.info("- " + text);
                         count++;
                     }
                 } catch (Exception e) {
@@ -84,36 +85,30 @@ public class SettingsPage extends BasePage {
                 }
             }
             
-            // Also log page source for debugging if needed
-            if (!isDisplayed) {
-                System.out.println(TAG + "Page source (first 500 chars): " + 
-                    driver.getPageSource().substring(0, Math.min(500, driver.getPageSource().length())));
-            }
-            
             return isDisplayed;
         } catch (Exception e) {
-            System.err.println(TAG + "Error checking if settings page is displayed: " + e.getMessage());
+            log.error("Error checking if settings page is displayed: " + e.getMessage());
             return false;
         }
     }
 
     public void clickNetworkAndInternet() {
-        System.out.println(TAG + "Clicking on Network & Internet option");
+        log.info("Clicking on Network & Internet option");
         clickElement(networkAndInternetOption, "Network & Internet");
     }
 
     public void clickConnectedDevices() {
-        System.out.println(TAG + "Clicking on Connected devices option");
+        log.info("Clicking on Connected devices option");
         clickElement(connectedDevicesOption, "Connected devices");
     }
 
     public void clickApps() {
-        System.out.println(TAG + "Clicking on Apps option");
+        log.info("Clicking on Apps option");
         clickElement(appsOption, "Apps");
     }
 
     public void clickBattery() {
-        System.out.println(TAG + "Clicking on Battery option");
+        log.info("Clicking on Battery option");
         clickElement(batteryOption, "Battery");
     }
 
@@ -125,67 +120,39 @@ public class SettingsPage extends BasePage {
         while (attempt < maxAttempts) {
             try {
                 attempt++;
-                System.out.println(TAG + String.format("Attempt %d/%d to click on: %s", attempt, maxAttempts, elementName));
-                
-                // Try to find the element with a short timeout first
-                WebElement visibleElement = waitForElementToBeVisible(element, 5);
+                log.info(String.format("Attempt %d/%d to click on: %s", attempt, maxAttempts, elementName));
                 
-                // Scroll to the element if needed
-                scrollToElement(visibleElement);
+                // Görünür değilse tek UiScrollable aramasıyla kaydır / Scroll it into view with one UiScrollable search if needed
+                WebElement visibleElement = scrollIntoView(element);
                 
-                // Wait a bit for any animations
-                Thread.sleep(500);
+                // Wait for any animations
+                waitHelper.waitForUiStable();
                 
-                System.out.println(TAG + "Clicking on element: " + elementName);
+                log.info("Clicking on element: " + elementName);
                 visibleElement.click();
-                System.out.println(TAG + "Successfully clicked on: " + elementName);
+                log.info("Successfully clicked on: " + elementName);
                 
                 // If we get here, the click was successful
                 return;
                 
             } catch (Exception e) {
                 lastException = e;
-                System.err.println(TAG + String.format("Attempt %d failed to click on %s: %s", 
+                log.warn(String.format("Attempt %d failed to click on %s: %s", 
                     attempt, elementName, e.getMessage()));
                 
                 if (attempt < maxAttempts) {
-                    System.out.println(TAG + "Retrying...");
-                    try {
-                        Thread.sleep(1000); // Wait a bit before retrying
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                    }
+                    log.info("Retrying...");
+                    waitHelper.waitForUiStable(); // Let the screen settle before retrying
                 }
             }
         }
         
         // If we get here, all attempts failed
-        System.err.println(TAG + "Failed to click on " + elementName + " after " + maxAttempts + " attempts");
+        log.error("Failed to click on " + elementName + " after " + maxAttempts + " attempts");
         if (lastException != null) {
             throw new RuntimeException("Failed to click on " + elementName, lastException);
         } else {
             throw new RuntimeException("Failed to click on " + elementName);
         }
     }
-
-    private WebElement waitForElementToBeVisible(WebElement element, int timeoutInSeconds) {
-        System.out.println(TAG + "Waiting for element to be visible (timeout: " + timeoutInSeconds + "s)");
-        try {
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-            return wait.until(ExpectedConditions.visibilityOf(element));
-        } catch (Exception e) {
-            System.err.println(TAG + "Element not visible after " + timeoutInSeconds + " seconds: " + e.getMessage());
-            
-            // Try to get more information about the current screen
-            try {
-                String pageSource = driver.getPageSource();
-                System.out.println(TAG + "Current page source (first 500 chars): " + 
-                    pageSource.substring(0, Math.min(500, pageSource.length())));
-            } catch (Exception ex) {
-                System.err.println(TAG + "Could not get page source: " + ex.getMessage());
-            }
-            
-            throw e;
-        }
-    }
 }
@@ -0,0 +1,12 @@
+package com.mobile.test.preconditions;
+
+/**
+ * Bir testin başlamadan önce ihtiyaç duyduğu uygulama durumu
+ * App state a test needs before it starts
+ */
+public enum AppState {
+    /** Logged in as the standard user, on the products screen with an empty cart */
+    LOGGED_IN,
+    /** Logged in, on the cart screen with one product in the cart */
+    CART_WITH_ITEM
+}
@@ -0,0 +1,22 @@
+package com.mobile.test.preconditions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Testin ön koşullarını bildirir; en hızlı yoldan sağlanırlar
+ * Declares the states a test starts from; they are reached through the fastest available route
+ *
+ * <p>On a test method it replaces the class-level declaration.</p>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Given {
+    AppState[] value();
+}
@@ -0,0 +1,123 @@
+package com.mobile.test.preconditions;
+
+import com.google.common.collect.ImmutableMap;
+import com.mobile.test.constants.Constants;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.helpers.PageSourceSnapshot;
+import com.mobile.test.helpers.WaitHelper;
+import com.mobile.test.pages.LoginPage;
+import com.mobile.test.pages.PageRegistry;
+import com.mobile.test.pages.ProductsPage;
+import io.appium.java_client.android.AndroidDriver;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link Given} ile bildirilen durumları en ucuz yoldan sağlar
+ * Establishes the states declared with {@link Given} through the cheapest route that works
+ *
+ * <ol>
+ *   <li>reuse: the screen left by the previous test already is the requested state,</li>
+ *   <li>deep link: the app opens the screen directly, with the cart contents in the URL,</li>
+ *   <li>UI: reset the app and drive login (and the cart) through the pages.</li>
+ * </ol>
+ *
+ * <p>Every route is verified against a fresh page-source snapshot before the test starts, so a
+ * route that silently does nothing (e.g. a build without deep links) falls through to the
+ * next one.</p>
+ */
+public class Preconditions {
+    static final String PRODUCTS_DEEP_LINK = "swaglabs://swag-overview/";
+    static final String CART_DEEP_LINK = "swaglabs://cart/0";
+
+    private static final Duration DEEP_LINK_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration UI_ROUTE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AndroidDriver driver;
+    private final String appPackage;
+    private final boolean deepLinks;
+    private final WaitHelper waitHelper;
+
+    public Preconditions(AndroidDriver driver, String appPackage, boolean deepLinks) {
+        this.driver = driver;
+        this.appPackage = appPackage;
+        this.deepLinks = deepLinks;
+        this.waitHelper = new WaitHelper(driver, UI_ROUTE_TIMEOUT.getSeconds());
+    }
+
+    /**
+     * @param states declared states; {@link AppState#CART_WITH_ITEM} implies {@link AppState#LOGGED_IN}
+     * @param reset  resets the app to the login screen, used before the UI route
+     */
+    public void establish(AppState[] states, Runnable reset) {
+        List<AppState> declared = Arrays.asList(states);
+        AppState target = declared.contains(AppState.CART_WITH_ITEM) ? AppState.CART_WITH_ITEM : AppState.LOGGED_IN;
+        long start = System.nanoTime();
+        String route;
+        if (isSatisfied(target, PageSourceCache.of(driver).refresh())) {
+            route = "reused";
+        } else if (deepLinks && viaDeepLink(target)) {
+            route = "deep link";
+        } else {
+            viaUi(target, reset);
+            route = "UI";
+        }
+        System.out.printf("✅ Ön koşul sağlandı / Precondition %s reached via %s in %d ms%n",
+                target, route, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean viaDeepLink(AppState target) {
+        String url = target == AppState.CART_WITH_ITEM ? CART_DEEP_LINK : PRODUCTS_DEEP_LINK;
+        try {
+            driver.executeScript("mobile: deepLink", ImmutableMap.of("url", url, "package", appPackage));
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Deep link açılamadı / Could not open deep link " + url + ": " + e.getMessage());
+            return false;
+        }
+        return waitHelper.pollUntilTrue("given.deepLink", DEEP_LINK_TIMEOUT,
+                () -> isSatisfied(target, PageSourceCache.of(driver).refresh()));
+    }
+
+    private void viaUi(AppState target, Runnable reset) {
+        reset.run();
+        PageRegistry pages = PageRegistry.of(driver);
+        pages.get(LoginPage.class).login(Constants.USERNAME_STANDARD_USER, Constants.PASSWORD);
+        if (target == AppState.CART_WITH_ITEM) {
+            pages.get(ProductsPage.class).addFirstProductToCart();
+            pages.get(ProductsPage.class).goToCart();
+        }
+        if (!waitHelper.pollUntilTrue("given.ui", UI_ROUTE_TIMEOUT, () -> isSatisfied(target, PageSourceCache.of(driver).refresh()))) {
+            throw new IllegalStateException("Could not reach precondition " + target + " through the UI");
+        }
+    }
+
+    static boolean isSatisfied(AppState target, PageSourceSnapshot snapshot) {
+        if (snapshot.withContentDesc("test-Menu").isEmpty()) {
+            return false;
+        }
+        if (target == AppState.CART_WITH_ITEM) {
+            return !snapshot.withContentDesc("test-CHECKOUT").isEmpty() && cartBadgeCount(snapshot) == 1;
+        }
+        return !snapshot.withText("PRODUCTS").isEmpty() && cartBadgeCount(snapshot) == 0;
+    }
+
+    /**
+     * Number shown on the cart icon; the badge is absent when the cart is empty.
+     */
+    static int cartBadgeCount(PageSourceSnapshot snapshot) {
+        for (Element cart : snapshot.withContentDesc("test-Cart")) {
+            NodeList children = cart.getElementsByTagName("*");
+            for (int i = 0; i < children.getLength(); i++) {
+                String text = ((Element) children.item(i)).getAttribute("text").trim();
+                if (text.matches("\\d+")) {
+                    return Integer.parseInt(text);
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,162 @@
+package com.mobile.test.reset;
+
+import com.google.common.collect.ImmutableMap;
+import com.mobile.test.helpers.PageSourceCache;
+import com.mobile.test.helpers.WaitHelper;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.appmanagement.ApplicationState;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Uygulamayı seçilen yöntemle sıfırlar ve hazır olana kadar bekler
+ * Resets the app with the selected strategy and waits until it is ready, without fixed sleeps
+ *
+ * <p>The fast strategies ({@link ResetMode#LOGOUT}, {@link ResetMode#DEEP_LINK}) fall back to a
+ * cold restart whenever the app is not in a state they can work from, so a test never starts
+ * from a half-reset app.</p>
+ */
+public class AppResetter {
+    public static final By LOGIN_SCREEN = AppiumBy.accessibilityId("test-Username");
+    public static final By LOGGED_IN_SCREEN = AppiumBy.accessibilityId("test-Menu");
+
+    private static final By PASSWORD_FIELD = AppiumBy.accessibilityId("test-Password");
+    private static final By RESET_APP_STATE = AppiumBy.accessibilityId("test-RESET APP STATE");
+    private static final By LOGOUT = AppiumBy.accessibilityId("test-LOGOUT");
+
+    private static final Duration APP_READY_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration SCREEN_READY_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MENU_TIMEOUT = Duration.ofSeconds(3);
+
+    private final AndroidDriver driver;
+    private final String appPackage;
+    private final WaitHelper waitHelper;
+
+    public AppResetter(AndroidDriver driver, String appPackage) {
+        this.driver = driver;
+        this.appPackage = appPackage;
+        this.waitHelper = new WaitHelper(driver, APP_READY_TIMEOUT.getSeconds());
+    }
+
+    /**
+     * @param deepLink target URL, only used by {@link ResetMode#DEEP_LINK}
+     * @return the strategy that was actually applied (differs from the requested one after a fallback)
+     */
+    public ResetMode reset(ResetMode mode, String deepLink) {
+        long start = System.nanoTime();
+        ResetMode applied = mode;
+        try {
+            switch (mode) {
+                case DEEP_LINK:
+                    applied = deepLink(deepLink) ? mode : coldRestart();
+                    break;
+                case LOGOUT:
+                    applied = logout() ? mode : coldRestart();
+                    break;
+                case CLEAR_DATA:
+                    clearData();
+                    break;
+                default:
+                    coldRestart();
+                    break;
+            }
+        } finally {
+            System.out.printf("🔄 Uygulama sıfırlandı / App reset with %s%s in %d ms%n", applied,
+                    applied != mode ? " (fallback from " + mode + ")" : "", (System.nanoTime() - start) / 1_000_000);
+        }
+        return applied;
+    }
+
+    /**
+     * Uygulama ön plana gelene kadar bekler
+     * Waits until the app reports it is running in the foreground
+     */
+    public boolean waitForAppReady() {
+        boolean ready = waitHelper.pollUntilTrue("app.foreground", APP_READY_TIMEOUT, this::isInForeground);
+        if (!ready) {
+            System.err.println("⚠️ Uygulama ön plana gelmedi / App did not reach the foreground within " + APP_READY_TIMEOUT.getSeconds() + "s");
+        }
+        return ready;
+    }
+
+    private ResetMode coldRestart() {
+        driver.terminateApp(appPackage);
+        driver.activateApp(appPackage);
+        waitForAppReady();
+        return ResetMode.COLD_RESTART;
+    }
+
+    private void clearData() {
+        driver.executeScript("mobile: clearApp", ImmutableMap.of("appId", appPackage));
+        driver.activateApp(appPackage);
+        waitForAppReady();
+        waitForScreen("reset.clearData", LOGIN_SCREEN);
+    }
+
+    private boolean deepLink(String url) {
+        if (url == null || url.isEmpty()) {
+            throw new IllegalArgumentException("ResetMode.DEEP_LINK needs @ResetWith(deepLink = \"...\")");
+        }
+        if (!isInForeground()) {
+            return false;
+        }
+        driver.executeScript("mobile: deepLink", ImmutableMap.of("url", url, "package", appPackage));
+        return waitForScreen("reset.deepLink", LOGGED_IN_SCREEN);
+    }
+
+    /**
+     * Sepeti temizler ve menüden çıkış yapar; zaten giriş ekranındaysa alanları temizler
+     * Resets the app state and logs out through the menu; on a clean login screen only the fields are cleared
+     */
+    private boolean logout() {
+        if (!isInForeground()) {
+            return false;
+        }
+        List<WebElement> username = driver.findElements(LOGIN_SCREEN);
+        if (!username.isEmpty()) {
+            // A validation message from the previous test would leak into the next assertion
+            if (PageSourceCache.of(driver).get().containsText("epic sadface")) {
+                return false;
+            }
+            username.get(0).clear();
+            driver.findElement(PASSWORD_FIELD).clear();
+            return true;
+        }
+        List<WebElement> menu = driver.findElements(LOGGED_IN_SCREEN);
+        if (menu.isEmpty()) {
+            return false;
+        }
+        try {
+            menu.get(0).click();
+            if (!clickWhenPresent("reset.menu", RESET_APP_STATE) || !clickWhenPresent("reset.menu", LOGOUT)) {
+                return false;
+            }
+            return waitForScreen("reset.logout", LOGIN_SCREEN);
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Menüden çıkış yapılamadı / Logout through the menu failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean clickWhenPresent(String waitName, By locator) {
+        try {
+            waitHelper.pollUntil(waitName, MENU_TIMEOUT, () -> driver.findElements(locator).stream().findFirst().orElse(null)).click();
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private boolean waitForScreen(String waitName, By marker) {
+        return waitHelper.pollUntilTrue(waitName, SCREEN_READY_TIMEOUT, () -> !driver.findElements(marker).isEmpty());
+    }
+
+    private boolean isInForeground() {
+        return driver.queryAppState(appPackage) == ApplicationState.RUNNING_IN_FOREGROUND;
+    }
+}
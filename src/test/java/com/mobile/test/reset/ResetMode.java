@@ -0,0 +1,16 @@
+package com.mobile.test.reset;
+
+/**
+ * Testler arasında uygulamanın temiz duruma getirilme yöntemi
+ * How the app is brought back to a clean state between tests
+ */
+public enum ResetMode {
+    /** terminateApp + activateApp; slowest, but recovers from any state */
+    COLD_RESTART,
+    /** Opens {@link ResetWith#deepLink()} in the running app, e.g. {@code swaglabs://swag-overview/} */
+    DEEP_LINK,
+    /** Resets the app state and logs out through the side menu, ending on the login screen */
+    LOGOUT,
+    /** Clears the app data ({@code mobile: clearApp}) and launches it again */
+    CLEAR_DATA
+}
@@ -0,0 +1,25 @@
+package com.mobile.test.reset;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Test sınıfının testler arasında kullanacağı sıfırlama yöntemini seçer
+ * Selects the reset strategy a test class uses before each test
+ *
+ * <p>Can be overridden for a whole run with {@code -Dreset.mode=cold_restart}.</p>
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ResetWith {
+    ResetMode value();
+
+    /** Target URL for {@link ResetMode#DEEP_LINK} */
+    String deepLink() default "";
+}
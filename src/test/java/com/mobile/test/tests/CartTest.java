@@ -1,26 +1,29 @@
 package com.mobile.test.tests;
 
 import com.mobile.test.base.BaseTest;
+import com.mobile.test.preconditions.AppState;
+import com.mobile.test.preconditions.Given;
+import com.mobile.test.reset.ResetMode;
+import com.mobile.test.reset.ResetWith;
 import io.qameta.allure.*;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Method;
+
 @Epic("Sauce Demo Tests")
 @Feature("Cart Operations")
+@ResetWith(ResetMode.LOGOUT)
+@Given(AppState.LOGGED_IN)
 public class CartTest extends BaseTest {
 
     @BeforeMethod
-    public void setup() throws InterruptedException {
+    public void setup(Method method) throws InterruptedException {
         try {
-            if (driver != null) {
-                driver.terminateApp("com.swaglabsmobileapp");
-                driver.activateApp("com.swaglabsmobileapp");
-                Thread.sleep(2000);
-            }
             pageInit();
-            // Login before cart tests
-            loginPage.login("standard_user", "secret_sauce");
+            // Giriş (ve sepet) en hızlı yoldan sağlanır / Login (and cart) are reached through the fastest route
+            prepareApp(method);
             System.out.println("✅ Cart testi başlatıldı");
         } catch (Exception e) {
             System.err.println("❌ Test başlatılamadı: " + e.getMessage());
@@ -32,9 +35,9 @@ public class CartTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     public void addProductToCartTest() {
         try {
-            productsPage.addFirstProductToCart();
-            productsPage.goToCart();
-            Assert.assertTrue(cartPage.isProductInCart(), "Sepette ürün bulunamadı");
+            productsPage().addFirstProductToCart();
+            productsPage().goToCart();
+            Assert.assertTrue(cartPage().isProductInCart(), "Sepette ürün bulunamadı");
             takeScreenshot("cart_added");
         } catch (Exception e) {
             takeScreenshot("cart_error");
@@ -47,12 +50,12 @@ public class CartTest extends BaseTest {
     public void removeProductFromCartTest() {
         try {
             // Önce ürün ekle
-            productsPage.addFirstProductToCart();
-            productsPage.goToCart();
+            productsPage().addFirstProductToCart();
+            productsPage().goToCart();
             
             // Sonra çıkar
-            cartPage.removeFirstProduct();
-            Assert.assertFalse(cartPage.isProductInCart(), "Sepetten ürün çıkarılamadı");
+            cartPage().removeFirstProduct();
+            Assert.assertFalse(cartPage().isProductInCart(), "Sepetten ürün çıkarılamadı");
             takeScreenshot("cart_removed");
         } catch (Exception e) {
             takeScreenshot("cart_remove_error");
@@ -1,6 +1,8 @@
 package com.mobile.test.tests;
 
 import com.mobile.test.base.BaseTest;
+import com.mobile.test.reset.ResetMode;
+import com.mobile.test.reset.ResetWith;
 import io.qameta.allure.*;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
@@ -9,6 +11,7 @@ import org.testng.annotations.Test;
 
 @Epic("Sauce Demo Tests")
 @Feature("Login Functionality")
+@ResetWith(ResetMode.LOGOUT)
 public class LoginTest extends BaseTest {
 
     
@@ -16,8 +19,8 @@ public class LoginTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void invalidLoginTest() {
         try {
-            loginPage.login("invalid_user", "wrong_password");
-            Assert.assertTrue(loginPage.isErrorMessageDisplayed(), "Hata mesajı görüntülenmedi");
+            loginPage().login("invalid_user", "wrong_password");
+            Assert.assertTrue(loginPage().isErrorMessageDisplayed(), "Hata mesajı görüntülenmedi");
             takeScreenshot("invalid_login");
         } catch (Exception e) {
             takeScreenshot("login_error");
@@ -28,11 +31,7 @@ public class LoginTest extends BaseTest {
     @BeforeMethod
     public void setup() throws InterruptedException {
         try {
-            if (driver != null) {
-                driver.terminateApp("com.swaglabsmobileapp");
-                driver.activateApp("com.swaglabsmobileapp");
-                Thread.sleep(2000);
-            }
+            resetApp();
             pageInit();
             System.out.println("✅ Login testi başlatıldı");
         } catch (Exception e) {
@@ -45,9 +44,7 @@ public class LoginTest extends BaseTest {
     public void tearDown() {
         try {
             // Take a final screenshot before quitting if the driver is still active
-            if (driver != null) {
-                takeScreenshot("Test_End_" + this.getClass().getSimpleName());
-            }
+            takeScreenshot("Test_End_" + this.getClass().getSimpleName());
         } catch (Exception e) {
             System.err.println("⚠️ Error during teardown: " + e.getMessage());
         }
@@ -68,12 +65,12 @@ public class LoginTest extends BaseTest {
             
             // Giriş yap
             System.out.println("🔑 Kullanıcı girişi yapılıyor...");
-            loginPage.login("standard_user", "secret_sauce");
+            loginPage().login("standard_user", "secret_sauce");
             takeScreenshot(testName + "_2_after_login_click");
 
             // Ürünler sayfasının yüklendiğini doğrula
             System.out.println("🔄 Ürünler sayfası yükleniyor...");
-            boolean isOnProductsPage = productsPage.isOnProductsPage();
+            boolean isOnProductsPage = productsPage().isOnProductsPage();
             takeScreenshot(testName + "_3_products_page_loaded");
             
             // Doğrulamalar
@@ -108,7 +105,7 @@ public class LoginTest extends BaseTest {
 
             // Boş kullanıcı adı ile giriş yapmayı dene
             System.out.println("🔑 Boş kullanıcı adı ile giriş yapılıyor...");
-            loginPage.login("", "secret_sauce");
+            loginPage().login("", "secret_sauce");
             takeScreenshot(testName + "_2_after_login_attempt");
 
             // Hata mesajının görüntülendiğini doğrula
@@ -120,9 +117,9 @@ public class LoginTest extends BaseTest {
             String errorMessage = "";
             
             while ((System.currentTimeMillis() - startTime) < 10000) { // 10 seconds timeout
-                isErrorDisplayed = loginPage.isErrorMessageDisplayed();
+                isErrorDisplayed = loginPage().isErrorMessageDisplayed();
                 if (isErrorDisplayed) {
-                    errorMessage = loginPage.getErrorMessage().toLowerCase();
+                    errorMessage = loginPage().getErrorMessage().toLowerCase();
                     if (!errorMessage.isEmpty()) {
                         break;
                     }
@@ -155,8 +152,7 @@ public class LoginTest extends BaseTest {
             System.err.println("❌ Assertion Hatası: " + e.getMessage());
             // Take a final screenshot of the current state
             takeScreenshot(testName + "_FINAL_STATE_AFTER_FAILURE");
-            // Print page source for debugging
-            System.out.println("Hata anındaki sayfa kaynağı: " + driver.getPageSource());
+            // Sayfa kaynağı farkı LogContextListener tarafından Allure'a eklenir / The hierarchy diff is attached by LogContextListener
             throw e;
         } catch (Exception e) {
             String errorScreenshot = testName + "_EXCEPTION_" + System.currentTimeMillis();
@@ -183,7 +179,7 @@ public class LoginTest extends BaseTest {
 
             // Boş şifre ile giriş yapmayı dene
             System.out.println("🔑 Boş şifre ile giriş yapılıyor...");
-            loginPage.login("standard_user", "");
+            loginPage().login("standard_user", "");
             takeScreenshot(testName + "_2_after_login_attempt");
 
             // Hata mesajının görüntülendiğini doğrula
@@ -195,9 +191,9 @@ public class LoginTest extends BaseTest {
             String errorMessage = "";
             
             while ((System.currentTimeMillis() - startTime) < 10000) { // 10 seconds timeout
-                isErrorDisplayed = loginPage.isErrorMessageDisplayed();
+                isErrorDisplayed = loginPage().isErrorMessageDisplayed();
                 if (isErrorDisplayed) {
-                    errorMessage = loginPage.getErrorMessage().toLowerCase();
+                    errorMessage = loginPage().getErrorMessage().toLowerCase();
                     if (!errorMessage.isEmpty()) {
                         break;
                     }
@@ -230,8 +226,7 @@ public class LoginTest extends BaseTest {
             System.err.println("❌ Assertion Hatası: " + e.getMessage());
             // Take a final screenshot of the current state
             takeScreenshot(testName + "_FINAL_STATE_AFTER_FAILURE");
-            // Print page source for debugging
-            System.out.println("Hata anındaki sayfa kaynağı: " + driver.getPageSource());
+            // Sayfa kaynağı farkı LogContextListener tarafından Allure'a eklenir / The hierarchy diff is attached by LogContextListener
             throw e;
         } catch (Exception e) {
             String errorScreenshot = testName + "_EXCEPTION_" + System.currentTimeMillis();
@@ -255,22 +250,22 @@ public class LoginTest extends BaseTest {
         try {
             // Giriş yap
             System.out.println("🔑 Kullanıcı girişi yapılıyor...");
-            loginPage.login("standard_user", "secret_sauce");
+            loginPage().login("standard_user", "secret_sauce");
             takeScreenshot(testName + "_1_after_login");
             
             // Ürünler sayfasının yüklendiğini doğrula
             System.out.println("🔍 Ürünler sayfası kontrol ediliyor...");
-            Assert.assertTrue(productsPage.isProductsPageDisplayed(), "Ürünler sayfası görüntülenemedi.");
+            Assert.assertTrue(productsPage().isProductsPageDisplayed(), "Ürünler sayfası görüntülenemedi.");
             takeScreenshot(testName + "_2_products_page_visible");
             
             // Çıkış yap
             System.out.println("🚪 Çıkış yapılıyor...");
-            productsPage.logout();
+            productsPage().logout();
             takeScreenshot(testName + "_3_after_logout_click");
             
             // Giriş sayfasına dönüldüğünü doğrula
             System.out.println("🔍 Giriş sayfası kontrol ediliyor...");
-            boolean isLoginPageDisplayed = loginPage.isLoginPageDisplayed();
+            boolean isLoginPageDisplayed = loginPage().isLoginPageDisplayed();
             takeScreenshot(testName + "_4_login_page_visible");
             
             Assert.assertTrue(isLoginPageDisplayed, "Çıkış işleminden sonra giriş sayfası görüntülenemedi.");